@@ -0,0 +1,81 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.droidsonroids.jspoon.ElementConverter;
+import pl.droidsonroids.jspoon.HtmlAdapter;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Format;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Measures binding of the {@link Corpus#MANY_ATTRIBUTES} corpus, where every product reads a dozen
+ * attributes through type conversion, regex, date format and custom converter fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AttributeBenchmark {
+
+    public static class Grid {
+        @Selector("#grid > div.product") List<Card> cards;
+    }
+
+    public static class Card {
+        @Selector(value = "div.product", attr = "data-id") int id;
+        @Selector(value = "div.product", attr = "data-sku", regex = "SKU-(\\d+)") String sku;
+        @Selector(value = "div.product", attr = "data-price") BigDecimal price;
+        @Selector(value = "div.product", attr = "data-currency") String currency;
+        @Selector(value = "div.product", attr = "data-stock") int stock;
+        @Selector(value = "div.product", attr = "data-rating") double rating;
+        @Selector(value = "div.product", attr = "data-brand") String brand;
+        @Selector(value = "div.product", attr = "data-color") String color;
+        @Selector(value = "div.product", attr = "data-size", converter = SizeConverter.class) Size size;
+        @Selector(value = "div.product", attr = "data-weight") long weight;
+        @Format("yyyy-MM-dd")
+        @Selector(value = "div.product", attr = "data-added") Date added;
+        @Selector(value = "div.product", attr = "data-featured") boolean featured;
+        @Selector(value = "img", attr = "src") String image;
+        @Selector(value = "img", attr = "width") int width;
+        @Selector(value = "img", attr = "height") int height;
+        @Selector(value = "a.title", attr = "href") String link;
+        @Selector(value = "a.title", attr = "title") String title;
+    }
+
+    public enum Size {
+        XS, S, M, L, XL
+    }
+
+    public static class SizeConverter implements ElementConverter<Size> {
+        @Override
+        public Size convert(Element node, Selector selector) {
+            return Size.valueOf(node.attr(selector.attr()));
+        }
+    }
+
+    private String html;
+    private HtmlAdapter<Grid> adapter;
+
+    @Setup
+    public void setUp() {
+        html = Corpus.resourceString(Corpus.MANY_ATTRIBUTES);
+        adapter = Jspoon.create().adapter(Grid.class);
+    }
+
+    @Benchmark
+    public Grid attributes() {
+        return adapter.fromHtml(html);
+    }
+}
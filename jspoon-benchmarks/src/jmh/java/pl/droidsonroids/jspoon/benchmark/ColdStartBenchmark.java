@@ -0,0 +1,92 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pl.droidsonroids.jspoon.Jspoon;
+
+/**
+ * Measures creation of adapters of the 300 classes of {@link ColdStartModels} in a fresh JVM, by
+ * scanning the classes or from metadata written at build time. Each measurement runs in its own
+ * fork, as classes are scanned only once per JVM.
+ * <p>
+ * The models are generated and their metadata is written by {@link #main(String[])} in the
+ * generateColdStartModels and writeColdStartMetadata tasks the jmh task depends on, the path of
+ * the metadata file is passed to forks in the {@value #METADATA_PROPERTY} system property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ColdStartBenchmark {
+
+    private static final String METADATA_PROPERTY = "jspoon.benchmark.coldStartMetadata";
+    /** The models are generated anew by every build, along with the metadata */
+    private static final String MODEL_VERSION = "generated";
+
+    @Param({"false", "true"})
+    boolean metadata;
+
+    private byte[] metadataBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (metadata) {
+            String path = System.getProperty(METADATA_PROPERTY);
+            if (path == null) {
+                throw new IllegalStateException(METADATA_PROPERTY + " system property is not set");
+            }
+            try (InputStream in = new FileInputStream(path)) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                for (int read; (read = in.read(buffer)) != -1; ) {
+                    out.write(buffer, 0, read);
+                }
+                metadataBytes = out.toByteArray();
+            }
+        }
+    }
+
+    @Benchmark
+    public Jspoon coldStart() throws IOException {
+        Jspoon.Builder builder = Jspoon.builder();
+        if (metadata) {
+            builder.metadata(new ByteArrayInputStream(metadataBytes), MODEL_VERSION);
+        }
+        return builder.preload(ColdStartModels.M0.class).build();
+    }
+
+    /**
+     * Writes metadata of {@link ColdStartModels}.
+     *
+     * @param args path of the written file
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ColdStartBenchmark <metadata file>");
+        }
+        try (OutputStream out = new FileOutputStream(args[0])) {
+            Jspoon.create().writeMetadata(out, MODEL_VERSION, ColdStartModels.M0.class);
+        }
+    }
+}
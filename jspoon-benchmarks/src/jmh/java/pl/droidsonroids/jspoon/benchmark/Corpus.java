@@ -0,0 +1,102 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generates synthetic HTML documents used by benchmarks and loads realistic ones from the
+ * {@code corpus} resources:
+ * <ul>
+ * <li>{@link #LARGE_TABLE} - product catalogue table of 1000 rows and 8 columns</li>
+ * <li>{@link #DEEP_NESTING} - discussion of comments nested 6 levels deep, 3 replies each</li>
+ * <li>{@link #MANY_ATTRIBUTES} - grid of 800 products described by a dozen data attributes</li>
+ * </ul>
+ */
+final class Corpus {
+
+    static final String LARGE_TABLE = "large-table.html";
+    static final String DEEP_NESTING = "deep-nesting.html";
+    static final String MANY_ATTRIBUTES = "many-attributes.html";
+
+    private Corpus() {
+    }
+
+    /**
+     * @param name name of a corpus resource, e.g. {@link #LARGE_TABLE}
+     * @return UTF-8 encoded content of the resource
+     */
+    static byte[] resource(String name) {
+        try (InputStream in = Corpus.class.getResourceAsStream("/corpus/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No corpus " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param name name of a corpus resource, e.g. {@link #LARGE_TABLE}
+     * @return content of the resource
+     */
+    static String resourceString(String name) {
+        return new String(resource(name), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param rows number of list items
+     * @return HTML page with a single list of {@code rows} items, each with an id and a price
+     */
+    static String listingPage(int rows) {
+        StringBuilder html = new StringBuilder(rows * 64);
+        html.append("<html><head><title>Listing</title></head><body><ul>");
+        for (int i = 0; i < rows; i++) {
+            html.append("<li class='item'>Item #").append(i)
+                    .append(" <span>").append(i % 1000).append('.').append(i % 100).append(" PLN</span></li>");
+        }
+        return html.append("</ul></body></html>").toString();
+    }
+
+    /**
+     * @param rows number of table rows
+     * @return HTML page with a price table of {@code rows} rows, each with a decimal price, a
+     * floating point rate and a date
+     */
+    static String priceTable(int rows) {
+        StringBuilder html = new StringBuilder(rows * 96);
+        html.append("<html><body><table id='prices'>");
+        for (int i = 0; i < rows; i++) {
+            html.append("<tr><td class='price'>").append(1000 + i).append(",").append(i % 10).append(i % 7)
+                    .append("</td><td class='rate'>").append(i % 100).append(",").append(i % 9)
+                    .append("</td><td class='date'>").append(2000 + i % 20).append("-0").append(1 + i % 9)
+                    .append("-1").append(i % 10).append("</td></tr>");
+        }
+        return html.append("</table></body></html>").toString();
+    }
+
+    /**
+     * @param fields number of detail fields
+     * @param rows number of list items following the details
+     * @return HTML page with a definition list of {@code fields} values with ids {@code f0},
+     * {@code f1}... followed by a listing of {@code rows} items
+     */
+    static String detailPage(int fields, int rows) {
+        StringBuilder html = new StringBuilder(fields * 32 + rows * 64);
+        html.append("<html><body><dl>");
+        for (int i = 0; i < fields; i++) {
+            html.append("<dt>Field ").append(i).append("</dt><dd id='f").append(i).append("'>")
+                    .append(i).append("</dd>");
+        }
+        html.append("</dl>");
+        String listing = listingPage(rows);
+        return html.append(listing, listing.indexOf("<ul>"), listing.length()).toString();
+    }
+}
@@ -0,0 +1,47 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.droidsonroids.jspoon.HtmlAdapter;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Measures binding of single-valued fields whose CSS query matches every row of a large listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FirstMatchBenchmark {
+
+    public static class Summary {
+        @Selector("li.item") String firstItem;
+        @Selector(value = "li.item > span", index = 1) String secondPrice;
+    }
+
+    @Param({"10000"})
+    int rows;
+
+    private String html;
+    private HtmlAdapter<Summary> adapter;
+
+    @Setup
+    public void setUp() {
+        html = Corpus.listingPage(rows);
+        adapter = Jspoon.create().adapter(Summary.class);
+    }
+
+    @Benchmark
+    public Summary firstMatch() {
+        return adapter.fromHtml(html);
+    }
+}
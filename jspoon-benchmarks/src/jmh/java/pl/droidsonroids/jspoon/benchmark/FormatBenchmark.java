@@ -0,0 +1,58 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.droidsonroids.jspoon.HtmlAdapter;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Format;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Measures binding of a price table where every cell is parsed with a {@link java.text.Format}.
+ * Run with {@code -prof gc} to see allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FormatBenchmark {
+
+    public static class PriceTable {
+        @Format(languageTag = "pl")
+        @Selector("td.price") List<BigDecimal> prices;
+
+        @Format(languageTag = "pl")
+        @Selector("td.rate") List<Double> rates;
+
+        @Format(value = "yyyy-MM-dd", languageTag = "pl")
+        @Selector("td.date") List<Date> dates;
+    }
+
+    @Param({"5000"})
+    int rows;
+
+    private String html;
+    private HtmlAdapter<PriceTable> adapter;
+
+    @Setup
+    public void setUp() {
+        html = Corpus.priceTable(rows);
+        adapter = Jspoon.create().adapter(PriceTable.class);
+    }
+
+    @Benchmark
+    public PriceTable priceTable() {
+        return adapter.fromHtml(html);
+    }
+}
@@ -0,0 +1,76 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.droidsonroids.jspoon.HtmlAdapter;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Format;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Compares the entry points of {@link HtmlAdapter} on the {@link Corpus#LARGE_TABLE} corpus, with
+ * the same model bound from a string and a byte stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InputBenchmark {
+
+    public static class Catalogue {
+        @Selector("h1") String title;
+        @Selector("tr.product") List<Product> products;
+    }
+
+    public static class Product {
+        @Selector("td.id") int id;
+        @Selector("td.name") String name;
+        @Selector(value = "td.name > a", attr = "href") String link;
+        @Selector("td.category") String category;
+        @Selector("td.price") BigDecimal price;
+        @Selector("td.stock") int stock;
+        @Selector("td.rating") double rating;
+        @Format("yyyy-MM-dd") @Selector("td.added") Date added;
+    }
+
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    private URL baseUrl;
+    private byte[] bytes;
+    private String html;
+    private HtmlAdapter<Catalogue> adapter;
+
+    @Setup
+    public void setUp() throws MalformedURLException {
+        baseUrl = new URL("https://example.com/catalogue");
+        bytes = Corpus.resource(Corpus.LARGE_TABLE);
+        html = new String(bytes, CHARSET);
+        adapter = Jspoon.create().adapter(Catalogue.class);
+    }
+
+    @Benchmark
+    public Catalogue fromHtml() {
+        return adapter.fromHtml(html);
+    }
+
+    @Benchmark
+    public Catalogue fromInputStream() throws IOException {
+        return adapter.fromInputStream(new ByteArrayInputStream(bytes), CHARSET, baseUrl);
+    }
+}
@@ -0,0 +1,86 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.droidsonroids.jspoon.HtmlAdapter;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Format;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Compares binding of the {@link Corpus#DEEP_NESTING} corpus to a model of simple fields, to a flat
+ * collection of all comments and to a tree of comments following the nesting of the document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ModelShapeBenchmark {
+
+    public static class Summary {
+        @Selector("h1") String title;
+        @Selector("span.author") String firstAuthor;
+        @Selector("span.score") int firstScore;
+        @Selector("p.body") String firstBody;
+    }
+
+    public static class CommentList {
+        @Selector("div.comment") List<Entry> comments;
+    }
+
+    public static class Entry {
+        @Selector("> div.meta > span.author") String author;
+        @Selector("> div.meta > span.score") int score;
+    }
+
+    public static class Discussion {
+        @Selector("#thread > div.comment") List<Comment> comments;
+    }
+
+    public static class Comment {
+        @Selector("> div.meta > span.author") String author;
+        @Format("yyyy-MM-dd'T'HH:mm:ss'Z'")
+        @Selector(value = "> div.meta > time", attr = "datetime") Date date;
+        @Selector("> div.meta > span.score") int score;
+        @Selector("> p.body") String body;
+        @Selector("> div.replies > div.comment") List<Comment> replies;
+    }
+
+    private String html;
+    private HtmlAdapter<Summary> simpleAdapter;
+    private HtmlAdapter<CommentList> collectionAdapter;
+    private HtmlAdapter<Discussion> nestedAdapter;
+
+    @Setup
+    public void setUp() {
+        html = Corpus.resourceString(Corpus.DEEP_NESTING);
+        Jspoon jspoon = Jspoon.create();
+        simpleAdapter = jspoon.adapter(Summary.class);
+        collectionAdapter = jspoon.adapter(CommentList.class);
+        nestedAdapter = jspoon.adapter(Discussion.class);
+    }
+
+    @Benchmark
+    public Summary simple() {
+        return simpleAdapter.fromHtml(html);
+    }
+
+    @Benchmark
+    public CommentList collection() {
+        return collectionAdapter.fromHtml(html);
+    }
+
+    @Benchmark
+    public Discussion nested() {
+        return nestedAdapter.fromHtml(html);
+    }
+}
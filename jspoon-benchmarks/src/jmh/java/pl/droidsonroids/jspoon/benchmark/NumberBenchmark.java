@@ -0,0 +1,52 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.droidsonroids.jspoon.HtmlAdapter;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Format;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Measures binding of a catalog page dominated by floating point cells.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NumberBenchmark {
+
+    public static class Catalog {
+        @Format(languageTag = "pl")
+        @Selector("td.price") List<Double> prices;
+
+        @Format(languageTag = "pl")
+        @Selector("td.rate") List<Float> rates;
+    }
+
+    @Param({"5000"})
+    int rows;
+
+    private String html;
+    private HtmlAdapter<Catalog> adapter;
+
+    @Setup
+    public void setUp() {
+        html = Corpus.priceTable(rows);
+        adapter = Jspoon.create().adapter(Catalog.class);
+    }
+
+    @Benchmark
+    public Catalog catalog() {
+        return adapter.fromHtml(html);
+    }
+}
@@ -0,0 +1,48 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.droidsonroids.jspoon.HtmlAdapter;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Measures binding of a large listing page where every row goes through a regex.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RegexBenchmark {
+
+    public static class Listing {
+        @Selector(value = "li.item", regex = "#(\\d+)") List<String> ids;
+        @Selector(value = "li.item > span", regex = "([0-9.]+) PLN") List<String> prices;
+    }
+
+    @Param({"10000"})
+    int rows;
+
+    private String html;
+    private HtmlAdapter<Listing> adapter;
+
+    @Setup
+    public void setUp() {
+        html = Corpus.listingPage(rows);
+        adapter = Jspoon.create().adapter(Listing.class);
+    }
+
+    @Benchmark
+    public Listing listWithRegex() {
+        return adapter.fromHtml(html);
+    }
+}
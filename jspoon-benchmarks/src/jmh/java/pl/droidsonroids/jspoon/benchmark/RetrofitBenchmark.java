@@ -0,0 +1,83 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import pl.droidsonroids.jspoon.annotation.Selector;
+import pl.droidsonroids.retrofit2.JspoonConverterFactory;
+import retrofit2.Call;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+
+/**
+ * Measures conversion of a page served by a local {@link MockWebServer}, with the charset given in
+ * the {@code Content-Type} header or left for detection. Run with {@code -prof gc} to see
+ * allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RetrofitBenchmark {
+
+    public interface ListingService {
+        @GET("/listing")
+        Call<Listing> getListing();
+    }
+
+    public static class Listing {
+        @Selector("li.item") List<String> items;
+    }
+
+    @Param({"16000"})
+    int rows;
+
+    @Param({"text/html; charset=utf-8", "text/html"})
+    String contentType;
+
+    private MockWebServer server;
+    private ListingService service;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Buffer body = new Buffer().writeUtf8(Corpus.listingPage(rows));
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setHeader("Content-Type", contentType).setBody(body.clone());
+            }
+        });
+        server.start();
+        service = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(JspoonConverterFactory.create())
+                .build()
+                .create(ListingService.class);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Benchmark
+    public Listing retrofitListing() throws IOException {
+        return service.getListing().execute().body();
+    }
+}
@@ -0,0 +1,53 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.droidsonroids.jspoon.HtmlAdapter;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Measures binding of table rows whose fields pick cells of the same CSS query by index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SharedSelectorBenchmark {
+
+    public static class PriceTable {
+        @Selector("tr") List<Row> rows;
+    }
+
+    public static class Row {
+        @Selector(value = "td", index = 0) String price;
+        @Selector(value = "td", index = 1) String rate;
+        @Selector(value = "td", index = 2) String date;
+    }
+
+    @Param({"5000"})
+    int rows;
+
+    private String html;
+    private HtmlAdapter<PriceTable> adapter;
+
+    @Setup
+    public void setUp() {
+        html = Corpus.priceTable(rows);
+        adapter = Jspoon.create().adapter(PriceTable.class);
+    }
+
+    @Benchmark
+    public PriceTable cellsByIndex() {
+        return adapter.fromHtml(html);
+    }
+}
@@ -0,0 +1,69 @@
+package pl.droidsonroids.jspoon.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.droidsonroids.jspoon.HtmlAdapter;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Measures binding of a model with many single-valued fields on a large page, with and without
+ * single pass selection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SinglePassBenchmark {
+
+    public static class Details {
+        @Selector("dd#f0") String f0;
+        @Selector("dd#f1") String f1;
+        @Selector("dd#f2") String f2;
+        @Selector("dd#f3") String f3;
+        @Selector("dd#f4") String f4;
+        @Selector("dd#f5") String f5;
+        @Selector("dd#f6") String f6;
+        @Selector("dd#f7") String f7;
+        @Selector("dd#f8") String f8;
+        @Selector("dd#f9") String f9;
+        @Selector("dd#f10") String f10;
+        @Selector("dd#f11") String f11;
+        @Selector("dd#f12") String f12;
+        @Selector("dd#f13") String f13;
+        @Selector("dd#f14") String f14;
+        @Selector("dd#f15") String f15;
+        @Selector("dd#f16") String f16;
+        @Selector("dd#f17") String f17;
+        @Selector("dd#f18") String f18;
+        @Selector("dd#f19") String f19;
+    }
+
+    @Param({"10000"})
+    int rows;
+
+    @Param({"false", "true"})
+    boolean singlePass;
+
+    private String html;
+    private HtmlAdapter<Details> adapter;
+
+    @Setup
+    public void setUp() {
+        html = Corpus.detailPage(20, rows);
+        adapter = Jspoon.builder().singlePassSelection(singlePass).build().adapter(Details.class);
+    }
+
+    @Benchmark
+    public Details details() {
+        return adapter.fromHtml(html);
+    }
+}
@@ -0,0 +1,117 @@
+package pl.droidsonroids.jspoon.micrometer;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import pl.droidsonroids.jspoon.BindingListener;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Records measurements of bound fields in a Micrometer {@link MeterRegistry}. All meters are
+ * tagged with the name of the class declaring the field ({@code class}), the name of the field
+ * ({@code field}) and its CSS query ({@code selector}):
+ * <ul>
+ * <li>{@code jspoon.field.selection} - timer of selecting elements, recorded for the fields the
+ * selection is reported for, see {@link BindingListener#fieldBound}</li>
+ * <li>{@code jspoon.field.conversion} - timer of converting elements and setting the field</li>
+ * <li>{@code jspoon.field.matches} - distribution of the number of selected elements</li>
+ * <li>{@code jspoon.field.defaults} - counter of default value fallbacks</li>
+ * <li>{@code jspoon.field.skipped} - counter of exceptions ignored because of
+ * {@link pl.droidsonroids.jspoon.annotation.SkipOn}</li>
+ * </ul>
+ * Meters of a field are registered when it is bound for the first time.
+ */
+public class MicrometerBindingListener extends BindingListener {
+
+    private final MeterRegistry registry;
+    private final Iterable<Tag> tags;
+    private final Map<Field, FieldMeters> fieldMeters = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry registry to register meters in
+     */
+    public MicrometerBindingListener(@NotNull MeterRegistry registry) {
+        this(registry, Tags.empty());
+    }
+
+    /**
+     * @param registry registry to register meters in
+     * @param tags tags added to all the meters
+     */
+    public MicrometerBindingListener(@NotNull MeterRegistry registry, @NotNull Iterable<Tag> tags) {
+        this.registry = registry;
+        this.tags = tags;
+    }
+
+    @Override
+    public void fieldBound(@NotNull Field field, @NotNull Selector selector, int matches,
+            long selectionNanos, long conversionNanos) {
+        FieldMeters meters = meters(field, selector);
+        if (selectionNanos > 0) {
+            meters.selection.record(selectionNanos, TimeUnit.NANOSECONDS);
+        }
+        meters.conversion.record(conversionNanos, TimeUnit.NANOSECONDS);
+        meters.matches.record(matches);
+    }
+
+    @Override
+    public void defaultValueUsed(@NotNull Field field, @NotNull Selector selector) {
+        meters(field, selector).defaults.increment();
+    }
+
+    @Override
+    public void exceptionSkipped(@NotNull Field field, @NotNull Selector selector, @NotNull Throwable exception) {
+        meters(field, selector).skipped.increment();
+    }
+
+    private FieldMeters meters(Field field, Selector selector) {
+        FieldMeters meters = fieldMeters.get(field);
+        if (meters == null) {
+            meters = fieldMeters.computeIfAbsent(field, f -> new FieldMeters(registry, Tags.concat(tags,
+                    "class", f.getDeclaringClass().getName(), "field", f.getName(), "selector", selector.value())));
+        }
+        return meters;
+    }
+
+    private static final class FieldMeters {
+        final Timer selection;
+        final Timer conversion;
+        final DistributionSummary matches;
+        final Counter defaults;
+        final Counter skipped;
+
+        FieldMeters(MeterRegistry registry, Tags tags) {
+            selection = Timer.builder("jspoon.field.selection")
+                    .description("Time of selecting elements of the field")
+                    .tags(tags)
+                    .register(registry);
+            conversion = Timer.builder("jspoon.field.conversion")
+                    .description("Time of converting selected elements and setting the field")
+                    .tags(tags)
+                    .register(registry);
+            matches = DistributionSummary.builder("jspoon.field.matches")
+                    .description("Number of elements selected for the field")
+                    .baseUnit("elements")
+                    .tags(tags)
+                    .register(registry);
+            defaults = Counter.builder("jspoon.field.defaults")
+                    .description("Number of times the field fell back to its default value")
+                    .tags(tags)
+                    .register(registry);
+            skipped = Counter.builder("jspoon.field.skipped")
+                    .description("Number of conversion exceptions of the field ignored by @SkipOn")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+}
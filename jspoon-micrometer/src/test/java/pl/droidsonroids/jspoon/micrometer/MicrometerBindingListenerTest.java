@@ -0,0 +1,58 @@
+package pl.droidsonroids.jspoon.micrometer;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Selector;
+import pl.droidsonroids.jspoon.annotation.SkipOn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class MicrometerBindingListenerTest {
+    private final static String HTML_CONTENT = "<div>"
+            + "<h1>Title</h1>"
+            + "<span class='count'>many</span>"
+            + "<ul><li>first</li><li>second</li></ul>"
+            + "</div>";
+
+    private SimpleMeterRegistry registry;
+    private Jspoon jspoon;
+
+    private static class Page {
+        @Selector("h1") String title;
+        @SkipOn(NumberFormatException.class) @Selector("span.count") Integer count;
+        @Selector(value = "h2", defValue = "none") String subtitle;
+        @Selector("li") List<String> items;
+    }
+
+    @Before
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        jspoon = Jspoon.builder()
+                .bindingListener(new MicrometerBindingListener(registry, Tags.of("model", "page")))
+                .build();
+    }
+
+    @Test
+    public void fieldMetersRecorded() {
+        jspoon.adapter(Page.class).fromHtml(HTML_CONTENT);
+        jspoon.adapter(Page.class).fromHtml(HTML_CONTENT);
+
+        String className = Page.class.getName();
+        assertEquals(2, registry.get("jspoon.field.conversion")
+                .tags("class", className, "field", "title", "selector", "h1", "model", "page")
+                .timer().count());
+        assertEquals(2, registry.get("jspoon.field.selection").tag("field", "items").timer().count());
+        assertEquals(4, registry.get("jspoon.field.matches").tag("field", "items").summary().totalAmount(), 0);
+        assertEquals(2, registry.get("jspoon.field.defaults").tag("field", "subtitle").counter().count(), 0);
+        assertEquals(2, registry.get("jspoon.field.skipped").tag("field", "count").counter().count(), 0);
+        assertNotNull(registry.find("jspoon.field.skipped").tag("field", "title").counter());
+        assertEquals(0, registry.get("jspoon.field.skipped").tag("field", "title").counter().count(), 0);
+    }
+}
@@ -0,0 +1,303 @@
+package pl.droidsonroids.jspoon.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Generates a {@code HtmlAdapter} subclass named {@code <Class>_JspoonAdapter} for every class
+ * using {@link Selector}. Generated adapters create instances with {@code new} and assign fields
+ * directly. Fields which are not accessible from the class' package, or whose type or declaring
+ * class is not, are left to reflection.
+ * <p>
+ * Generated adapters only take reflection out of binding of every object, fields and their
+ * annotations are still read via reflection once, when an adapter is created. Metadata, see
+ * {@code Jspoon.Builder#metadata(InputStream)}, is the way to skip that.
+ * <p>
+ * Classes which cannot be referenced from their package (private, generic, local or non-static
+ * inner classes) are skipped and bound via reflection at runtime.
+ */
+public class JspoonProcessor extends AbstractProcessor {
+
+    static final String ADAPTER_SUFFIX = "_JspoonAdapter";
+
+    /** Primitive kinds which {@code HtmlAdapter} sets through typed, non-boxing setters. */
+    private static final TypeKind[] PRIMITIVE_SETTERS = {
+            TypeKind.BOOLEAN, TypeKind.INT, TypeKind.LONG, TypeKind.FLOAT, TypeKind.DOUBLE
+    };
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(Selector.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(Selector.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                types.add((TypeElement) element);
+            } else if (element.getKind() == ElementKind.FIELD) {
+                types.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (TypeElement type : types) {
+            if (isSupported(type)) {
+                generateAdapter(type);
+            }
+        }
+        return false;
+    }
+
+    private boolean isSupported(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || !type.getTypeParameters().isEmpty()) {
+            return false;
+        }
+        Element element = type;
+        while (element instanceof TypeElement) {
+            TypeElement current = (TypeElement) element;
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || current.getNestingKind() == NestingKind.LOCAL
+                    || current.getNestingKind() == NestingKind.ANONYMOUS
+                    || (current.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC))) {
+                return false;
+            }
+            element = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generateAdapter(TypeElement type) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String adapterName = adapterSimpleName(type, packageName);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import pl.droidsonroids.jspoon.HtmlAdapter;\n")
+                .append("import pl.droidsonroids.jspoon.InstanceCreator;\n")
+                .append("import pl.droidsonroids.jspoon.Jspoon;\n\n")
+                .append("/**\n * Generated by jspoon-processor, do not modify.\n */\n")
+                .append("public final class ").append(adapterName)
+                .append(" extends HtmlAdapter<").append(typeName).append("> {\n\n")
+                .append("    public ").append(adapterName).append("(Jspoon jspoon) {\n");
+        if (!type.getModifiers().contains(Modifier.ABSTRACT) && hasAccessibleDefaultConstructor(type)) {
+            source.append("        super(jspoon, ").append(typeName).append(".class, new InstanceCreator<")
+                    .append(typeName).append(">() {\n")
+                    .append("            @Override\n")
+                    .append("            public ").append(typeName).append(" newInstance() {\n")
+                    .append("                return new ").append(typeName).append("();\n")
+                    .append("            }\n")
+                    .append("        });\n");
+        } else {
+            source.append("        super(jspoon, ").append(typeName).append(".class);\n");
+        }
+        source.append("    }\n");
+
+        Map<String, VariableElement> fields = accessibleFields(type, packageElement);
+        if (!fields.isEmpty()) {
+            source.append("\n    @Override\n")
+                    .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                    .append("    protected boolean setField(").append(typeName)
+                    .append(" instance, String fieldName, Object value) {\n")
+                    .append("        switch (fieldName) {\n");
+            for (Map.Entry<String, VariableElement> field : fields.entrySet()) {
+                source.append("        case \"").append(field.getKey()).append("\":\n")
+                        .append("            instance.").append(field.getKey()).append(" = (")
+                        .append(castType(field.getValue().asType())).append(") value;\n")
+                        .append("            return true;\n");
+            }
+            source.append("        default:\n")
+                    .append("            return false;\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+        for (TypeKind kind : PRIMITIVE_SETTERS) {
+            appendPrimitiveSetter(source, typeName, kind, fields);
+        }
+        source.append("}\n");
+
+        String qualifiedAdapterName = packageName.isEmpty() ? adapterName : packageName + "." + adapterName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedAdapterName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + qualifiedAdapterName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Appends an override of the typed {@code HtmlAdapter} setter, like {@code setInt}, for
+     * fields of the given primitive kind, nothing if there are none.
+     */
+    private static void appendPrimitiveSetter(StringBuilder source, String typeName, TypeKind kind,
+            Map<String, VariableElement> fields) {
+        String primitiveName = kind.name().toLowerCase(Locale.ENGLISH);
+        boolean empty = true;
+        for (Map.Entry<String, VariableElement> field : fields.entrySet()) {
+            if (field.getValue().asType().getKind() != kind) {
+                continue;
+            }
+            if (empty) {
+                source.append("\n    @Override\n")
+                        .append("    protected boolean set")
+                        .append(Character.toUpperCase(primitiveName.charAt(0))).append(primitiveName.substring(1))
+                        .append("(").append(typeName).append(" instance, String fieldName, ")
+                        .append(primitiveName).append(" value) {\n")
+                        .append("        switch (fieldName) {\n");
+                empty = false;
+            }
+            source.append("        case \"").append(field.getKey()).append("\":\n")
+                    .append("            instance.").append(field.getKey()).append(" = value;\n")
+                    .append("            return true;\n");
+        }
+        if (!empty) {
+            source.append("        default:\n")
+                    .append("            return false;\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+    }
+
+    /**
+     * @return {@code Outer_Inner_JspoonAdapter} for {@code Outer.Inner}, matching the binary name
+     * {@code Outer$Inner} with {@code $} replaced by {@code _}
+     */
+    static String adapterSimpleName(TypeElement type, String packageName) {
+        String qualifiedName = type.getQualifiedName().toString();
+        String simpleName = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        return simpleName.replace('.', '_') + ADAPTER_SUFFIX;
+    }
+
+    private static boolean hasAccessibleDefaultConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return !constructor.getModifiers().contains(Modifier.PRIVATE);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects fields which can be assigned from the type's package, including inherited ones.
+     * Field hidden by a subclass field of the same name is represented by the subclass field only,
+     * if that one is not accessible, the name is skipped.
+     */
+    private Map<String, VariableElement> accessibleFields(TypeElement type, PackageElement packageElement) {
+        Map<String, VariableElement> fields = new LinkedHashMap<>();
+        Set<String> seen = new LinkedHashSet<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                String name = field.getSimpleName().toString();
+                if (!seen.add(name)) {
+                    continue;
+                }
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)
+                        || modifiers.contains(Modifier.PRIVATE)) {
+                    continue;
+                }
+                boolean samePackage = processingEnv.getElementUtils().getPackageOf(current).equals(packageElement);
+                if ((samePackage || modifiers.contains(Modifier.PUBLIC))
+                        && isAccessible(current, packageElement)
+                        && isAccessible(field.asType(), packageElement)) {
+                    fields.put(name, field);
+                }
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return fields;
+    }
+
+    /**
+     * @return true if the erased {@code type} can be referenced from {@code packageElement}
+     */
+    private boolean isAccessible(TypeMirror type, PackageElement packageElement) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) erasure).getComponentType(), packageElement);
+        }
+        if (erasure.getKind() != TypeKind.DECLARED) {
+            return erasure.getKind().isPrimitive();
+        }
+        return isAccessible((TypeElement) ((DeclaredType) erasure).asElement(), packageElement);
+    }
+
+    /**
+     * @return true if {@code type} and all the types enclosing it can be referenced from
+     * {@code packageElement}, which is not a subclass of any of them
+     */
+    private boolean isAccessible(TypeElement type, PackageElement packageElement) {
+        boolean samePackage = processingEnv.getElementUtils().getPackageOf(type).equals(packageElement);
+        Element element = type;
+        while (element instanceof TypeElement) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * @return source of the erased type to cast a boxed field value to, without type annotations
+     */
+    private String castType(TypeMirror type) {
+        Types typeUtils = processingEnv.getTypeUtils();
+        TypeMirror erasure = typeUtils.erasure(type);
+        if (erasure.getKind().isPrimitive()) {
+            return typeUtils.boxedClass((PrimitiveType) erasure).getQualifiedName().toString();
+        }
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            TypeMirror component = ((ArrayType) erasure).getComponentType();
+            String componentSource = component.getKind().isPrimitive()
+                    ? component.getKind().name().toLowerCase(Locale.ENGLISH) : castType(component);
+            return componentSource + "[]";
+        }
+        return ((TypeElement) typeUtils.asElement(erasure)).getQualifiedName().toString();
+    }
+}
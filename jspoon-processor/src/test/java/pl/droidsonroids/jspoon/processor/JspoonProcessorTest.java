@@ -0,0 +1,125 @@
+package pl.droidsonroids.jspoon.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pl.droidsonroids.jspoon.HtmlAdapter;
+import pl.droidsonroids.jspoon.Jspoon;
+
+public class JspoonProcessorTest {
+
+    private static final String MODEL_SOURCE = "package com.example;\n"
+            + "import java.util.List;\n"
+            + "import pl.droidsonroids.jspoon.annotation.Selector;\n"
+            + "public class Page {\n"
+            + "    @Selector(\"h1\") String title;\n"
+            + "    @Selector(\"li\") List<Integer> numbers;\n"
+            + "    @Selector(\"b\") private boolean flag;\n"
+            + "    @Selector(\"i\") double ratio;\n"
+            + "    @Selector(\"div.item\") Item[] items;\n"
+            + "    @Selector(\"p\") Hidden hidden;\n"
+            + "    @Selector(\"p\") Hidden[] hiddenItems;\n"
+            + "    @Selector(\"div\")\n"
+            + "    public static class Item {\n"
+            + "        @Selector(\"span\") public int value;\n"
+            + "    }\n"
+            + "    @Selector(\"p\")\n"
+            + "    private static class Hidden {\n"
+            + "        @Selector(\"span\") int value;\n"
+            + "    }\n"
+            + "}\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ClassLoader classLoader;
+
+    @Before
+    public void setUp() throws IOException {
+        File sourceDir = temporaryFolder.newFolder("src", "com", "example");
+        File outputDir = temporaryFolder.newFolder("classes");
+        File source = new File(sourceDir, "Page.java");
+        Files.write(source.toPath(), MODEL_SOURCE.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+        Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(source);
+        List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                "-d", outputDir.getPath(), "-s", outputDir.getPath());
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+        task.setProcessors(Arrays.asList(new JspoonProcessor()));
+        assertTrue(task.call());
+        fileManager.close();
+
+        classLoader = new URLClassLoader(new URL[]{outputDir.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    @Test
+    public void generatedAdaptersBind() throws Exception {
+        Class<?> pageClass = classLoader.loadClass("com.example.Page");
+        HtmlAdapter<?> adapter = Jspoon.create().adapter(pageClass);
+        assertEquals("com.example.Page_JspoonAdapter", adapter.getClass().getName());
+
+        Object page = adapter.fromHtml("<h1>Title</h1><ul><li>1</li><li>2</li></ul><b>true</b><i>0.5</i>"
+                + "<div class='item'><span>5</span></div>");
+        assertEquals("Title", fieldValue(page, "title"));
+        assertEquals(Arrays.asList(1, 2), fieldValue(page, "numbers"));
+        assertEquals(true, fieldValue(page, "flag"));
+        assertEquals(0.5, fieldValue(page, "ratio"));
+        Object[] items = (Object[]) fieldValue(page, "items");
+        assertEquals(5, fieldValue(items[0], "value"));
+    }
+
+    @Test
+    public void fieldOfPrivateTypeBoundViaReflection() throws Exception {
+        Class<?> pageClass = classLoader.loadClass("com.example.Page");
+        Object page = Jspoon.create().adapter(pageClass).fromHtml("<i>1</i><p><span>7</span></p>");
+        assertEquals(7, fieldValue(fieldValue(page, "hidden"), "value"));
+        assertEquals(1, ((Object[]) fieldValue(page, "hiddenItems")).length);
+
+        String adapterSource = new String(Files.readAllBytes(
+                new File(temporaryFolder.getRoot(), "classes/com/example/Page_JspoonAdapter.java").toPath()),
+                StandardCharsets.UTF_8);
+        assertFalse(adapterSource.contains("Hidden"));
+    }
+
+    @Test
+    public void nestedClassAdapterGenerated() throws Exception {
+        Class<?> itemClass = classLoader.loadClass("com.example.Page$Item");
+        assertEquals("com.example.Page_Item_JspoonAdapter",
+                Jspoon.create().adapter(itemClass).getClass().getName());
+    }
+
+    @Test
+    public void privateClassSkipped() {
+        assertFalse(new File(temporaryFolder.getRoot(), "classes/com/example/Page_Hidden_JspoonAdapter.java").exists());
+        assertTrue(new File(temporaryFolder.getRoot(), "classes/com/example/Page_JspoonAdapter.java").exists());
+    }
+
+    private static Object fieldValue(Object instance, String name) throws Exception {
+        Field field = instance.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(instance);
+    }
+}
@@ -0,0 +1,403 @@
+package pl.droidsonroids.jspoon;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import pl.droidsonroids.jspoon.annotation.Format;
+import pl.droidsonroids.jspoon.annotation.Selector;
+import pl.droidsonroids.jspoon.annotation.SkipOn;
+
+/**
+ * Binary snapshot of the fields bound by adapters, with their resolved types and annotations, so
+ * that adapters can be created without scanning classes, resolving generics and parsing
+ * annotations.
+ * <p>
+ * A snapshot consists of a header with the version of the models it was written for, a table of
+ * all the strings it refers to (class, field and member names, annotation values) and a sequence of
+ * adapter entries, each holding the name of the adapter's class and its encoded fields. Fields are
+ * decoded only when the adapter is created.
+ * <p>
+ * Snapshots are trusted as long as their model version matches, classes are not compared with
+ * them, as that would take the reflection they are meant to avoid. Only entries referring to
+ * missing fields or classes, or to fields of other types, are detected and ignored.
+ */
+final class AdapterMetadata {
+
+    private static final int MAGIC = 0x4a53504e;
+    private static final int VERSION = 3;
+
+    private static final int STRING = 'S';
+    private static final int INT = 'I';
+    private static final int CLASS = 'C';
+    private static final int CLASS_ARRAY = 'A';
+
+    /** Index of the null string, e.g. a missing array content type. */
+    private static final int NULL = 0;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> primitive : new Class<?>[] { boolean.class, byte.class, short.class, char.class,
+                int.class, long.class, float.class, double.class }) {
+            PRIMITIVES.put(primitive.getName(), primitive);
+        }
+    }
+
+    /**
+     * Encoded fields of a single adapter, along with the string table of the snapshot.
+     */
+    static final class AdapterEntry {
+        private final String[] strings;
+        private final byte[] fields;
+
+        AdapterEntry(String[] strings, byte[] fields) {
+            this.strings = strings;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * Field restored from a snapshot, along with the selector it is bound with.
+     */
+    static final class FieldEntry {
+        final FieldType field;
+        final Selector selector;
+
+        FieldEntry(FieldType field, Selector selector) {
+            this.field = field;
+            this.selector = selector;
+        }
+    }
+
+    private AdapterMetadata() {
+    }
+
+    static void write(OutputStream outputStream, String modelVersion, Map<Class<?>, HtmlAdapter<?>> adapters)
+            throws IOException {
+        Encoder encoder = new Encoder();
+        Map<Class<?>, byte[]> encodedAdapters = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, HtmlAdapter<?>> adapter : adapters.entrySet()) {
+            encoder.string(adapter.getKey().getName());
+            encodedAdapters.put(adapter.getKey(), encoder.fields(adapter.getValue().getHtmlFields()));
+        }
+
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(modelVersion);
+        writeVarInt(out, encoder.strings.size());
+        for (String string : encoder.strings.keySet()) {
+            out.writeUTF(string);
+        }
+        writeVarInt(out, encodedAdapters.size());
+        for (Map.Entry<Class<?>, byte[]> adapter : encodedAdapters.entrySet()) {
+            writeVarInt(out, encoder.strings.get(adapter.getKey().getName()));
+            writeVarInt(out, adapter.getValue().length);
+            out.write(adapter.getValue());
+        }
+        out.flush();
+    }
+
+    /**
+     * @param modelVersion version of the models the snapshot has to be written for
+     * @return encoded adapters by name of their class, empty if the snapshot has been written for
+     * another version of the models
+     */
+    static Map<String, AdapterEntry> read(InputStream inputStream, String modelVersion) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a jspoon metadata snapshot");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported metadata snapshot version " + version);
+        }
+        if (!in.readUTF().equals(modelVersion)) {
+            return Collections.emptyMap();
+        }
+        String[] strings = new String[readVarInt(in)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+        int count = readVarInt(in);
+        Map<String, AdapterEntry> adapters = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String className = strings[readVarInt(in)];
+            byte[] fields = new byte[readVarInt(in)];
+            in.readFully(fields);
+            adapters.put(className, new AdapterEntry(strings, fields));
+        }
+        return adapters;
+    }
+
+    /**
+     * @param adapter adapter entry read by {@link #read(InputStream)}
+     * @param clazz class of the adapter
+     * @return decoded fields, null if the snapshot does not match {@code clazz} anymore, e.g. a
+     * field has been removed since it was written
+     */
+    static List<FieldEntry> readFields(AdapterEntry adapter, Class<?> clazz) {
+        try {
+            return new Decoder(adapter, clazz.getClassLoader()).fields();
+        } catch (IOException | ReflectiveOperationException | ClassCastException
+                | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes {@code value} in 7-bit groups, least significant first, so that small values take a
+     * single byte.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    /**
+     * Encodes fields of adapters, collecting the strings they refer to into a shared table.
+     */
+    private static final class Encoder {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private DataOutputStream out;
+
+        Encoder() {
+            strings.put("", NULL);
+        }
+
+        byte[] fields(Collection<? extends HtmlField<?>> htmlFields) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            out = new DataOutputStream(bytes);
+            writeVarInt(out, htmlFields.size());
+            for (HtmlField<?> htmlField : htmlFields) {
+                field(htmlField);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        }
+
+        private void field(HtmlField<?> htmlField) throws IOException {
+            FieldType field = htmlField.field;
+            writeClass(field.unwrap().getDeclaringClass());
+            writeString(field.getName());
+            annotation(htmlField.spec.getSelectorAnnotation());
+            // Only annotations jspoon reads from fields, besides the selector
+            List<Annotation> annotations = new ArrayList<>();
+            Format format = field.getAnnotation(Format.class);
+            if (format != null) {
+                annotations.add(format);
+            }
+            SkipOn skipOn = field.getAnnotation(SkipOn.class);
+            if (skipOn != null) {
+                annotations.add(skipOn);
+            }
+            writeVarInt(out, annotations.size());
+            for (Annotation annotation : annotations) {
+                annotation(annotation);
+            }
+            type(field);
+        }
+
+        private void type(FieldType type) throws IOException {
+            writeClass(type.getType());
+            out.writeBoolean(type.isArray());
+            writeClass(type.getArrayContentType());
+            writeVarInt(out, type.getTypeArgumentCount());
+            for (int i = 0; i < type.getTypeArgumentCount(); i++) {
+                writeClass(type.getTypeArgument(i));
+            }
+            FieldType lazyValueType = type.getLazyValueType();
+            out.writeBoolean(lazyValueType != null);
+            if (lazyValueType != null) {
+                type(lazyValueType);
+            }
+        }
+
+        private void annotation(Annotation annotation) throws IOException {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            Method[] members = annotationType.getDeclaredMethods();
+            writeClass(annotationType);
+            writeVarInt(out, members.length);
+            for (Method member : members) {
+                Object value;
+                try {
+                    value = member.invoke(annotation);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IOException("Cannot read " + member, e);
+                }
+                writeString(member.getName());
+                if (value instanceof String) {
+                    out.writeByte(STRING);
+                    writeString((String) value);
+                } else if (value instanceof Integer) {
+                    out.writeByte(INT);
+                    out.writeInt((Integer) value);
+                } else if (value instanceof Class) {
+                    out.writeByte(CLASS);
+                    writeClass((Class<?>) value);
+                } else if (value instanceof Class[]) {
+                    Class<?>[] classes = (Class<?>[]) value;
+                    out.writeByte(CLASS_ARRAY);
+                    writeVarInt(out, classes.length);
+                    for (Class<?> clazz : classes) {
+                        writeClass(clazz);
+                    }
+                } else {
+                    throw new IOException("Unsupported annotation member " + member);
+                }
+            }
+        }
+
+        private void writeClass(Class<?> clazz) throws IOException {
+            writeString(clazz == null ? "" : clazz.getName());
+        }
+
+        private void writeString(String value) throws IOException {
+            writeVarInt(out, string(value));
+        }
+
+        int string(String value) {
+            Integer index = strings.get(value);
+            if (index == null) {
+                index = strings.size();
+                strings.put(value, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Decodes fields of a single adapter, resolving classes with the class loader of the adapter's
+     * class.
+     */
+    private static final class Decoder {
+        private final String[] strings;
+        private final DataInputStream in;
+        private final ClassLoader classLoader;
+        private final Map<String, Class<?>> classes = new HashMap<>();
+
+        Decoder(AdapterEntry adapter, ClassLoader classLoader) {
+            this.strings = adapter.strings;
+            this.in = new DataInputStream(new ByteArrayInputStream(adapter.fields));
+            this.classLoader = classLoader;
+        }
+
+        List<FieldEntry> fields() throws IOException, ReflectiveOperationException {
+            int count = readVarInt(in);
+            List<FieldEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Field field = readClass().getDeclaredField(readString());
+                Selector selector = (Selector) annotation();
+                Annotation[] annotations = new Annotation[readVarInt(in)];
+                for (int j = 0; j < annotations.length; j++) {
+                    annotations[j] = annotation();
+                }
+                FieldType fieldType = type(field, annotations);
+                if (!field.getType().isAssignableFrom(fieldType.getType())) {
+                    return null;
+                }
+                entries.add(new FieldEntry(fieldType, selector));
+            }
+            return entries;
+        }
+
+        private FieldType type(Field field, Annotation[] annotations) throws IOException, ClassNotFoundException {
+            Class<?> typeClass = readClass();
+            boolean isArray = in.readBoolean();
+            Class<?> arrayContentType = readClass();
+            Class<?>[] typeArguments = null;
+            int typeArgumentCount = readVarInt(in);
+            if (typeArgumentCount > 0) {
+                typeArguments = new Class<?>[typeArgumentCount];
+                for (int i = 0; i < typeArgumentCount; i++) {
+                    typeArguments[i] = readClass();
+                }
+            }
+            FieldType lazyValueType = in.readBoolean() ? type(field, annotations) : null;
+            return new FieldType(field, typeClass, isArray, arrayContentType, typeArguments, lazyValueType,
+                    annotations);
+        }
+
+        private Annotation annotation() throws IOException, ClassNotFoundException {
+            Class<? extends Annotation> annotationType = readClass().asSubclass(Annotation.class);
+            int count = readVarInt(in);
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = readString();
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                case STRING:
+                    values.put(name, readString());
+                    break;
+                case INT:
+                    values.put(name, in.readInt());
+                    break;
+                case CLASS:
+                    values.put(name, readClass());
+                    break;
+                case CLASS_ARRAY:
+                    Class<?>[] classArray = new Class<?>[readVarInt(in)];
+                    for (int j = 0; j < classArray.length; j++) {
+                        classArray[j] = readClass();
+                    }
+                    values.put(name, classArray);
+                    break;
+                default:
+                    throw new IOException("Unknown annotation member tag " + tag);
+                }
+            }
+            return AnnotationProxy.create(annotationType, values);
+        }
+
+        private String readString() throws IOException {
+            return strings[readVarInt(in)];
+        }
+
+        private Class<?> readClass() throws IOException, ClassNotFoundException {
+            String name = readString();
+            if (name.isEmpty()) {
+                return null;
+            }
+            Class<?> clazz = classes.get(name);
+            if (clazz == null) {
+                clazz = PRIMITIVES.get(name);
+                if (clazz == null) {
+                    clazz = Class.forName(name, false, classLoader);
+                }
+                classes.put(name, clazz);
+            }
+            return clazz;
+        }
+    }
+}
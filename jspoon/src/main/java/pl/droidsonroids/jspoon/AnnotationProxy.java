@@ -0,0 +1,89 @@
+package pl.droidsonroids.jspoon;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Annotation instance backed by a map of its member values, used for annotations restored from
+ * {@link AdapterMetadata} instead of being parsed from class files.
+ */
+class AnnotationProxy implements InvocationHandler {
+
+    private final Class<? extends Annotation> annotationType;
+    private final Map<String, Object> values;
+
+    private AnnotationProxy(Class<? extends Annotation> annotationType, Map<String, Object> values) {
+        this.annotationType = annotationType;
+        this.values = values;
+    }
+
+    /**
+     * @param values values of all members of {@code annotationType}, by member name
+     */
+    static <A extends Annotation> A create(Class<A> annotationType, Map<String, Object> values) {
+        Object proxy = Proxy.newProxyInstance(annotationType.getClassLoader(),
+                new Class<?>[] { annotationType }, new AnnotationProxy(annotationType, values));
+        return annotationType.cast(proxy);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+        case "annotationType":
+            return annotationType;
+        case "equals":
+            return proxy == args[0] || isEqual(args[0]);
+        case "hashCode":
+            return hashCode(annotationType, values);
+        case "toString":
+            return "@" + annotationType.getName() + values;
+        default:
+            Object value = values.get(method.getName());
+            return value instanceof Object[] ? ((Object[]) value).clone() : value;
+        }
+    }
+
+    /**
+     * Compares member values with the ones of {@code other} as {@link Annotation#equals(Object)}
+     * requires, so that a restored annotation equals the one parsed from the class file.
+     */
+    private boolean isEqual(Object other) {
+        if (!annotationType.isInstance(other)) {
+            return false;
+        }
+        for (Method member : annotationType.getDeclaredMethods()) {
+            Object otherValue;
+            try {
+                otherValue = member.invoke(other);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                return false;
+            }
+            Object value = values.get(member.getName());
+            boolean equal = value instanceof Object[] && otherValue instanceof Object[]
+                    ? Arrays.equals((Object[]) value, (Object[]) otherValue)
+                    : value != null && value.equals(otherValue);
+            if (!equal) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return hash code defined by {@link Annotation#hashCode()}
+     */
+    private static int hashCode(Class<? extends Annotation> annotationType, Map<String, Object> values) {
+        int hashCode = 0;
+        for (Method member : annotationType.getDeclaredMethods()) {
+            Object value = values.get(member.getName());
+            int valueHashCode = value instanceof Object[] ? Arrays.hashCode((Object[]) value) : value.hashCode();
+            hashCode += (127 * member.getName().hashCode()) ^ valueHashCode;
+        }
+        return hashCode;
+    }
+}
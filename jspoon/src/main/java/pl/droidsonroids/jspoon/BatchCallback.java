@@ -0,0 +1,25 @@
+package pl.droidsonroids.jspoon;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives objects created by
+ * {@link HtmlAdapter#fromHtmlBatch(Iterable, java.util.concurrent.Executor, int, BatchCallback)} as
+ * soon as each document is converted, so neither the documents nor the objects are kept by the
+ * adapter afterwards.
+ *
+ * @param <T> type of created objects
+ */
+public interface BatchCallback<T> {
+
+    /**
+     * Called once per document, in the thread which converted it, so possibly concurrently and in
+     * a different order than the one of the source. Exactly one of {@code value} and {@code error}
+     * is non-null.
+     *
+     * @param index index of the document in the source
+     * @param value object created from the document, null if its conversion failed
+     * @param error exception thrown while converting the document, null if it succeeded
+     */
+    void onResult(int index, @Nullable T value, @Nullable Throwable error);
+}
@@ -0,0 +1,108 @@
+package pl.droidsonroids.jspoon;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Outcome of {@link HtmlAdapter#fromHtmlBatch(Iterable, java.util.concurrent.Executor, int)}.
+ * Documents are indexed in the order of the source, a failure of one of them does not affect the
+ * others.
+ *
+ * @param <T> type of created objects
+ */
+public final class BatchResult<T> {
+
+    private final Object[] values;
+    private final Throwable[] errors;
+    private final int failureCount;
+    private final int peakInFlight;
+    private final long elapsedNanos;
+
+    BatchResult(Object[] values, Throwable[] errors, int peakInFlight, long elapsedNanos) {
+        this.values = values;
+        this.errors = errors;
+        int failures = 0;
+        for (Throwable error : errors) {
+            if (error != null) {
+                failures++;
+            }
+        }
+        this.failureCount = failures;
+        this.peakInFlight = peakInFlight;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return number of documents in the batch
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @param index index of the document
+     * @return object created from the document, null if its conversion failed
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T get(int index) {
+        return (T) values[index];
+    }
+
+    /**
+     * @param index index of the document
+     * @return exception thrown while converting the document, null if it succeeded
+     */
+    public @Nullable Throwable getError(int index) {
+        return errors[index];
+    }
+
+    /**
+     * @return objects created from documents, in the order of the source, with nulls in place of
+     * failed documents
+     */
+    public @NotNull List<T> values() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return BatchResult.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /**
+     * @return number of documents whose conversion failed
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the highest number of documents being converted or waiting in the executor at once
+     */
+    public int getPeakInFlight() {
+        return peakInFlight;
+    }
+
+    /**
+     * @return time from submitting the first document to completion of the last one, in
+     * nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return converted documents per second
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : values.length * 1e9 / elapsedNanos;
+    }
+}
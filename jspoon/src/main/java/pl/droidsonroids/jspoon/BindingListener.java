@@ -0,0 +1,76 @@
+package pl.droidsonroids.jspoon;
+
+import java.lang.reflect.Field;
+
+import org.jetbrains.annotations.NotNull;
+
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+/**
+ * Receives measurements of binding of every field and object, to find the expensive selectors of a
+ * model.
+ * Methods are called in the binding thread, possibly concurrently when documents are bound in many
+ * threads, so implementations have to be thread safe and fast. Unlike with {@link #NONE}, adapters
+ * read the clock twice for every bound field.
+ *
+ * @see Jspoon.Builder#bindingListener(BindingListener)
+ */
+public abstract class BindingListener {
+
+    /** Listener ignoring all measurements, the default one, which adds no work to binding. */
+    public static final BindingListener NONE = new BindingListener() {
+    };
+
+    /**
+     * Called after a field of a bound object has been set.
+     * <p>
+     * Elements are selected once for all the fields of a class sharing the same CSS query, the
+     * time of the selection is reported for the first of them and 0 for the other ones. If the
+     * elements of all the fields are selected in a single traversal, see
+     * {@link Jspoon.Builder#singlePassSelection(boolean)}, its time is reported for the first field
+     * of the class.
+     *
+     * @param field bound field
+     * @param selector annotation of the field, or of its type
+     * @param matches number of elements selected for the field, at most
+     * {@link Selector#index()} + 1 for fields having a single value, as the selection stops then
+     * @param selectionNanos time of selecting the elements in nanoseconds
+     * @param conversionNanos time of converting the elements and setting the field in
+     * nanoseconds, including binding of nested objects
+     */
+    public void fieldBound(@NotNull Field field, @NotNull Selector selector, int matches,
+            long selectionNanos, long conversionNanos) {
+    }
+
+    /**
+     * Called when the value of a field, or of an item of a collection field, falls back to
+     * {@link Selector#defValue()} because no element has been selected or the regex has not
+     * matched.
+     *
+     * @param field bound field
+     * @param selector annotation of the field, or of its type
+     */
+    public void defaultValueUsed(@NotNull Field field, @NotNull Selector selector) {
+    }
+
+    /**
+     * Called when a conversion exception is ignored because of
+     * {@link pl.droidsonroids.jspoon.annotation.SkipOn}, leaving the field or the item unset.
+     *
+     * @param field bound field
+     * @param selector annotation of the field, or of its type
+     * @param exception ignored exception
+     */
+    public void exceptionSkipped(@NotNull Field field, @NotNull Selector selector, @NotNull Throwable exception) {
+    }
+
+    /**
+     * Called after all the fields of a bound object have been set, also for every object nested in
+     * it, so that the objects created from a document can be counted. Values of {@link Lazy}
+     * fields are reported when they are requested and bound.
+     *
+     * @param type class of the bound object
+     */
+    public void objectBound(@NotNull Class<?> type) {
+    }
+}
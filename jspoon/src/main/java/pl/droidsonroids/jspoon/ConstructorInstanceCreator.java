@@ -0,0 +1,42 @@
+package pl.droidsonroids.jspoon;
+
+import java.lang.reflect.Constructor;
+
+import org.jetbrains.annotations.NotNull;
+
+import pl.droidsonroids.jspoon.exception.ConstructorNotFoundException;
+import pl.droidsonroids.jspoon.exception.ObjectCreationException;
+
+/**
+ * Creates instances via default constructor, which is looked up once upon creation.
+ */
+class ConstructorInstanceCreator<T> implements InstanceCreator<T> {
+
+    private final Class<T> clazz;
+    private final Constructor<T> constructor;
+
+    ConstructorInstanceCreator(Class<T> clazz) {
+        this.clazz = clazz;
+        Constructor<T> found;
+        try {
+            found = clazz.getDeclaredConstructor();
+            found.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            // reported upon instance creation, instance may be supplied by the caller instead
+            found = null;
+        }
+        this.constructor = found;
+    }
+
+    @Override
+    public @NotNull T newInstance() {
+        if (constructor == null) {
+            throw new ConstructorNotFoundException(clazz.getSimpleName());
+        }
+        try {
+            return constructor.newInstance();
+        } catch (Exception e) {
+            throw new ObjectCreationException(clazz.getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package pl.droidsonroids.jspoon;
+
+import java.lang.reflect.Field;
+
+/**
+ * Sets values of a single field. Primitive values are written by typed setters without boxing.
+ * <p>
+ * This implementation uses {@link Field} and keeps Java 7 and Android compatibility, Java 9+ runtimes
+ * use a {@code MethodHandle} based one from {@code META-INF/versions/9} of the multi-release jar.
+ */
+class FieldSetter {
+
+    private final Field field;
+
+    FieldSetter(Field field) {
+        field.setAccessible(true);
+        this.field = field;
+    }
+
+    void set(Object instance, Object value) throws IllegalAccessException {
+        field.set(instance, value);
+    }
+
+    void setBoolean(Object instance, boolean value) throws IllegalAccessException {
+        field.setBoolean(instance, value);
+    }
+
+    void setInt(Object instance, int value) throws IllegalAccessException {
+        field.setInt(instance, value);
+    }
+
+    void setLong(Object instance, long value) throws IllegalAccessException {
+        field.setLong(instance, value);
+    }
+
+    void setFloat(Object instance, float value) throws IllegalAccessException {
+        field.setFloat(instance, value);
+    }
+
+    void setDouble(Object instance, double value) throws IllegalAccessException {
+        field.setDouble(instance, value);
+    }
+}
@@ -25,15 +25,27 @@ public class FieldType {
     private Class<?> arrayContentType = null;
     private boolean hasTypeArguments = false;
     private Class<?>[] typeArguments = null;
+    private FieldSetter setter;
+    private FieldType lazyValueType = null;
+    private Annotation[] annotations = null;
 
     FieldType(Class<?> fieldClass, Field field) {
+        this(fieldClass, field, field == null ? null : field.getGenericType(),
+                field == null ? null : field.getType());
+    }
+
+    /**
+     * @param genericType type of the field or, for value types of {@link Lazy} fields, its type
+     * argument
+     * @param rawType raw class of {@code genericType}
+     */
+    private FieldType(Class<?> fieldClass, Field field, Type genericType, Class<?> rawType) {
         if (fieldClass == null || field == null) {
             throw new IllegalArgumentException("Field and its class cannot be null");
         }
         this.wrapped = field;
         this.name = field.getName();
-        this.typeClass = field.getType();
-        Type genericType = field.getGenericType();
+        this.typeClass = rawType;
         this.localHashCode = field.hashCode() + name.hashCode();
 
         if (genericType instanceof Class) {
@@ -61,6 +73,37 @@ public class FieldType {
                 processParametrizedType((ParameterizedType) resolvedType, fieldClass);
             }
         }
+
+        if (this.typeClass == Lazy.class) {
+            // Raw or <?> lazy fields treated as Lazy<String>
+            Type valueType = (genericType instanceof ParameterizedType)
+                    ? ((ParameterizedType) genericType).getActualTypeArguments()[0] : String.class;
+            Class<?> valueClass = resolveClass(valueType, fieldClass);
+            if (valueClass == Object.class) {
+                valueType = valueClass = String.class;
+            }
+            this.lazyValueType = new FieldType(fieldClass, field, valueType, valueClass);
+        }
+    }
+
+    /**
+     * Restores a field type from {@link AdapterMetadata}, without resolving generics or reading
+     * annotations of {@code field}.
+     *
+     * @param annotations annotations of the field, used instead of the ones declared
+     */
+    FieldType(Field field, Class<?> typeClass, boolean isArray, Class<?> arrayContentType,
+            Class<?>[] typeArguments, FieldType lazyValueType, Annotation[] annotations) {
+        this.wrapped = field;
+        this.name = field.getName();
+        this.typeClass = typeClass;
+        this.localHashCode = field.hashCode() + name.hashCode();
+        this.isArray = isArray;
+        this.arrayContentType = arrayContentType;
+        this.hasTypeArguments = typeArguments != null;
+        this.typeArguments = typeArguments;
+        this.lazyValueType = lazyValueType;
+        this.annotations = annotations;
     }
 
     private void processParametrizedType(ParameterizedType paramType, Class<?> subType) {
@@ -269,6 +312,13 @@ public class FieldType {
         return this.arrayContentType;
     }
 
+    /**
+     * @return type of the value of a {@link Lazy} field, null if this field is not of Lazy type
+     */
+    public FieldType getLazyValueType() {
+        return this.lazyValueType;
+    }
+
     /**
      * @return number of field's generic arguments, 0 (zero) if it has none
      */
@@ -296,6 +346,14 @@ public class FieldType {
      * @return annotation of wrapped field
      */
     public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+        if (this.annotations != null) {
+            for (Annotation annotation : this.annotations) {
+                if (annotation.annotationType() == annotationClass) {
+                    return annotationClass.cast(annotation);
+                }
+            }
+            return null;
+        }
         return this.wrapped.getAnnotation(annotationClass);
     }
 
@@ -303,6 +361,9 @@ public class FieldType {
      * @return declared annotations of wrapped field
      */
     public Annotation[] getDeclaredAnnotations() {
+        if (this.annotations != null) {
+            return this.annotations.clone();
+        }
         return this.wrapped.getDeclaredAnnotations();
     }
 
@@ -317,8 +378,80 @@ public class FieldType {
      * @throws IllegalAccessException see {@link Field#set(Object, Object)}
      */
     public void set(Object instance, Object value) throws IllegalArgumentException, IllegalAccessException {
-        this.wrapped.setAccessible(true);
-        this.wrapped.set(instance, value);
+        setter().set(instance, value);
+    }
+
+    /**
+     * Sets the wrapped {@code boolean} field without boxing, see {@link #set(Object, Object)}.
+     *
+     * @param instance the object whose field should be modified
+     * @param value  the new value for the field of instance being modified
+     * @throws IllegalArgumentException see {@link Field#setBoolean(Object, boolean)}
+     * @throws IllegalAccessException see {@link Field#setBoolean(Object, boolean)}
+     */
+    public void setBoolean(Object instance, boolean value) throws IllegalArgumentException, IllegalAccessException {
+        setter().setBoolean(instance, value);
+    }
+
+    /**
+     * Sets the wrapped {@code int} field without boxing, see {@link #set(Object, Object)}.
+     *
+     * @param instance the object whose field should be modified
+     * @param value  the new value for the field of instance being modified
+     * @throws IllegalArgumentException see {@link Field#setInt(Object, int)}
+     * @throws IllegalAccessException see {@link Field#setInt(Object, int)}
+     */
+    public void setInt(Object instance, int value) throws IllegalArgumentException, IllegalAccessException {
+        setter().setInt(instance, value);
+    }
+
+    /**
+     * Sets the wrapped {@code long} field without boxing, see {@link #set(Object, Object)}.
+     *
+     * @param instance the object whose field should be modified
+     * @param value  the new value for the field of instance being modified
+     * @throws IllegalArgumentException see {@link Field#setLong(Object, long)}
+     * @throws IllegalAccessException see {@link Field#setLong(Object, long)}
+     */
+    public void setLong(Object instance, long value) throws IllegalArgumentException, IllegalAccessException {
+        setter().setLong(instance, value);
+    }
+
+    /**
+     * Sets the wrapped {@code float} field without boxing, see {@link #set(Object, Object)}.
+     *
+     * @param instance the object whose field should be modified
+     * @param value  the new value for the field of instance being modified
+     * @throws IllegalArgumentException see {@link Field#setFloat(Object, float)}
+     * @throws IllegalAccessException see {@link Field#setFloat(Object, float)}
+     */
+    public void setFloat(Object instance, float value) throws IllegalArgumentException, IllegalAccessException {
+        setter().setFloat(instance, value);
+    }
+
+    /**
+     * Sets the wrapped {@code double} field without boxing, see {@link #set(Object, Object)}.
+     *
+     * @param instance the object whose field should be modified
+     * @param value  the new value for the field of instance being modified
+     * @throws IllegalArgumentException see {@link Field#setDouble(Object, double)}
+     * @throws IllegalAccessException see {@link Field#setDouble(Object, double)}
+     */
+    public void setDouble(Object instance, double value) throws IllegalArgumentException, IllegalAccessException {
+        setter().setDouble(instance, value);
+    }
+
+    /**
+     * @return setter of the wrapped field, created on first use so that fields which are never set
+     * are not made accessible
+     */
+    private FieldSetter setter() {
+        FieldSetter fieldSetter = this.setter;
+        if (fieldSetter == null) {
+            fieldSetter = new FieldSetter(this.wrapped);
+            this.setter = fieldSetter;
+        }
+        return fieldSetter;
     }
 
     @Override
@@ -4,32 +4,84 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import pl.droidsonroids.jspoon.annotation.Selector;
 import pl.droidsonroids.jspoon.exception.EmptySelectorException;
 
 /**
  * Converts HTML strings to Java.
+ * <p>
+ * Subclasses are generated by {@code jspoon-processor} to create instances and set fields without
+ * reflection, see {@link #HtmlAdapter(Jspoon, Class, InstanceCreator)} and
+ * {@link #setField(Object, String, Object)}.
  */
 public class HtmlAdapter<T> {
     private Jspoon jspoon;
     private Class<T> clazz;
+    private InstanceCreator<T> instanceCreator;
     private Map<String, HtmlField<T>> htmlFieldCache;
+    private List<HtmlFieldGroup<T>> htmlFieldGroups;
+    private SinglePassSelector singlePassSelector;
 
-    HtmlAdapter(Jspoon jspoon, Class<T> clazz) {
+    protected HtmlAdapter(Jspoon jspoon, Class<T> clazz) {
+        this(jspoon, clazz, null);
+    }
+
+    /**
+     * @param jspoon jspoon instance creating this adapter
+     * @param clazz class of created objects
+     * @param defaultInstanceCreator creator used unless one is registered in {@code jspoon}, if
+     * null the default constructor is called via reflection
+     */
+    protected HtmlAdapter(Jspoon jspoon, Class<T> clazz, @Nullable InstanceCreator<T> defaultInstanceCreator) {
         this.jspoon = jspoon;
         this.clazz = clazz;
+        InstanceCreator<T> registeredInstanceCreator = jspoon.instanceCreator(clazz);
+        if (registeredInstanceCreator != null) {
+            this.instanceCreator = registeredInstanceCreator;
+        } else if (defaultInstanceCreator != null) {
+            this.instanceCreator = defaultInstanceCreator;
+        } else {
+            this.instanceCreator = new ConstructorInstanceCreator<>(clazz);
+        }
         htmlFieldCache = new LinkedHashMap<>();
+        jspoon.adapterCreationStarted(clazz, this);
+
+        List<AdapterMetadata.FieldEntry> metadata = jspoon.metadata(clazz);
+        if (metadata != null) {
+            for (AdapterMetadata.FieldEntry entry : metadata) {
+                addCachedHtmlField(entry.field, entry.selector);
+            }
+        } else {
+            addAnnotatedFields(clazz);
+        }
 
+        if (htmlFieldCache.isEmpty()) {
+            throw new EmptySelectorException(clazz);
+        }
+        htmlFieldGroups = groupByCssQuery(htmlFieldCache.values());
+        if (jspoon.isSinglePassSelection()) {
+            singlePassSelector = new SinglePassSelector(htmlFieldGroups);
+        }
+    }
+
+    private void addAnnotatedFields(Class<T> clazz) {
         for (Field f : Utils.getAllDeclaredFields(clazz)) {
 
             FieldType field = new FieldType(clazz, f);
@@ -41,24 +93,41 @@ public class HtmlAdapter<T> {
             // Annotated field
             Selector selector = field.getAnnotation(Selector.class);
 
+            // Lazy fields are looked up by their value type
+            FieldType valueType = field.getLazyValueType() != null ? field.getLazyValueType() : field;
+
             // Not annotated field of annotated class
             if (selector == null) {
-                selector = field.getType().getAnnotation(Selector.class);
+                selector = valueType.getType().getAnnotation(Selector.class);
             }
 
             // Not annotated field - List of annotated type
-            if (selector == null && isCollectionLike(field)) {
-                selector = getFromComponentType(field);
+            if (selector == null && isCollectionLike(valueType)) {
+                selector = getFromComponentType(valueType);
             }
 
             if (selector != null) {
                 addCachedHtmlField(field, selector);
             }
         }
+    }
 
-        if (htmlFieldCache.isEmpty()) {
-            throw new EmptySelectorException(clazz);
+    /**
+     * Groups fields having the same CSS query, so that the query is evaluated once per node and its
+     * result is shared by all fields of the group.
+     */
+    private static <T> List<HtmlFieldGroup<T>> groupByCssQuery(Collection<HtmlField<T>> htmlFields) {
+        Map<String, HtmlFieldGroup<T>> groups = new LinkedHashMap<>();
+        for (HtmlField<T> htmlField : htmlFields) {
+            String cssQuery = htmlField.spec.getCssQuery();
+            HtmlFieldGroup<T> group = groups.get(cssQuery);
+            if (group == null) {
+                groups.put(cssQuery, new HtmlFieldGroup<>(htmlField));
+            } else {
+                group.add(htmlField);
+            }
         }
+        return new ArrayList<>(groups.values());
     }
 
     private Selector getFromComponentType(FieldType field) {
@@ -154,36 +223,372 @@ public class HtmlAdapter<T> {
         return fromInputStream(inputStream, charset, baseUrl, null);
     }
 
+    /**
+     * Populates {@code T} instance from an already parsed element, e.g. a jsoup {@code Document},
+     * without serializing and parsing it again. Selectors are evaluated against {@code element}
+     * and its descendants, like against the root of a parsed HTML string. The element is only
+     * read, so it may be bound by many adapters, also concurrently, see {@link SharedDocument}.
+     *
+     * @param element element to bind, must not be modified while binding
+     * @param instance instance to populate
+     * @return Created object of type {@code T}
+     */
+    public T fromElement(@NotNull Element element, @Nullable T instance) {
+        return loadFromNode(element, instance);
+    }
+
+    /**
+     * Converts an already parsed element to a {@code T} object, see
+     * {@link #fromElement(Element, Object)}.
+     *
+     * @param element element to bind, must not be modified while binding
+     * @return Created object of type {@code T}
+     */
+    public T fromElement(@NotNull Element element) {
+        return fromElement(element, null);
+    }
+
+    /**
+     * Converts html strings to {@code T} objects on the given {@code Executor}, with at most
+     * {@code maxInFlight} documents submitted and not yet converted at once. The calling thread
+     * blocks when that limit is reached, so a lazily produced {@code Iterable} is consumed only as
+     * fast as documents are converted. Any executor can be used, including one running each task in
+     * a virtual thread where the JDK provides it.
+     * <p>
+     * An exception thrown while converting a document is recorded in the result for that document
+     * and does not affect the others.
+     * <p>
+     * All the created objects are kept until the whole batch is converted, use
+     * {@link #fromHtmlBatch(Iterable, Executor, int, BatchCallback)} to process each of them as
+     * soon as it is ready instead.
+     *
+     * @param htmlContents Strings with HTML content
+     * @param executor Executor running conversions
+     * @param maxInFlight maximum number of documents being converted at once, must be positive
+     * @return Created objects in the order of {@code htmlContents}, along with errors and stats
+     * @throws InterruptedException If the calling thread is interrupted while waiting, documents
+     * already submitted are still converted
+     */
+    public BatchResult<T> fromHtmlBatch(@NotNull Iterable<String> htmlContents, @NotNull Executor executor,
+            int maxInFlight) throws InterruptedException {
+        final List<Object> values = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        long start = System.nanoTime();
+        int peakInFlight = submitBatch(htmlContents, executor, maxInFlight, new BatchCallback<T>() {
+            @Override
+            public void onResult(int index, T value, Throwable error) {
+                synchronized (values) {
+                    while (values.size() <= index) {
+                        values.add(null);
+                        errors.add(null);
+                    }
+                    values.set(index, value);
+                    errors.set(index, error);
+                }
+            }
+        });
+        long elapsedNanos = System.nanoTime() - start;
+        synchronized (values) {
+            return new BatchResult<>(values.toArray(), errors.toArray(new Throwable[errors.size()]),
+                    peakInFlight, elapsedNanos);
+        }
+    }
+
+    /**
+     * Converts html strings to {@code T} objects on the given {@code Executor} like
+     * {@link #fromHtmlBatch(Iterable, Executor, int)}, but passes each object, or the exception
+     * thrown while converting its document, to {@code callback} as soon as it is ready and does not
+     * keep it afterwards. With a lazily produced {@code Iterable}, at most {@code maxInFlight}
+     * documents and their objects are held by the batch at once, whatever its length.
+     * <p>
+     * Returns after {@code callback} has been called for every document.
+     *
+     * @param htmlContents Strings with HTML content
+     * @param executor Executor running conversions
+     * @param maxInFlight maximum number of documents being converted at once, must be positive
+     * @param callback receiver of created objects, called in the converting threads
+     * @throws InterruptedException If the calling thread is interrupted while waiting, documents
+     * already submitted are still converted and passed to {@code callback}
+     */
+    public void fromHtmlBatch(@NotNull Iterable<String> htmlContents, @NotNull Executor executor,
+            int maxInFlight, @NotNull BatchCallback<? super T> callback) throws InterruptedException {
+        submitBatch(htmlContents, executor, maxInFlight, callback);
+    }
+
+    private int submitBatch(Iterable<String> htmlContents, Executor executor, int maxInFlight,
+            BatchCallback<? super T> callback) throws InterruptedException {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive, was " + maxInFlight);
+        }
+        Semaphore permits = new Semaphore(maxInFlight);
+        AtomicInteger inFlight = new AtomicInteger();
+        int peakInFlight = 0;
+        int index = 0;
+        for (String htmlContent : htmlContents) {
+            permits.acquire();
+            BatchTask task = new BatchTask(index++, htmlContent, callback, permits, inFlight);
+            peakInFlight = Math.max(peakInFlight, inFlight.incrementAndGet());
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.complete(null, e);
+            }
+        }
+        permits.acquire(maxInFlight);
+        permits.release(maxInFlight);
+        return peakInFlight;
+    }
+
+    /**
+     * Converts html strings to {@code T} objects on the given {@code Executor}, with at most twice
+     * as many documents in flight as there are available processors, see
+     * {@link #fromHtmlBatch(Iterable, Executor, int)}.
+     *
+     * @param htmlContents Strings with HTML content
+     * @param executor Executor running conversions
+     * @return Created objects in the order of {@code htmlContents}, along with errors and stats
+     * @throws InterruptedException If the calling thread is interrupted while waiting
+     */
+    public BatchResult<T> fromHtmlBatch(@NotNull Iterable<String> htmlContents, @NotNull Executor executor)
+            throws InterruptedException {
+        return fromHtmlBatch(htmlContents, executor, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Sets a field on the given instance without reflection. Returning false makes the field to be
+     * set via reflection.
+     *
+     * @param instance the object whose field should be modified
+     * @param fieldName name of the field
+     * @param value new non-null value for the field, primitives are boxed
+     * @return true if the field has been set, false otherwise
+     */
+    protected boolean setField(T instance, String fieldName, Object value) {
+        return false;
+    }
+
+    /**
+     * Sets a {@code boolean} field without reflection or boxing, see
+     * {@link #setField(Object, String, Object)}.
+     *
+     * @param instance the object whose field should be modified
+     * @param fieldName name of the field
+     * @param value new value for the field
+     * @return true if the field has been set, false otherwise
+     */
+    protected boolean setBoolean(T instance, String fieldName, boolean value) {
+        return false;
+    }
+
+    /**
+     * Sets an {@code int} field without reflection or boxing, see
+     * {@link #setField(Object, String, Object)}.
+     *
+     * @param instance the object whose field should be modified
+     * @param fieldName name of the field
+     * @param value new value for the field
+     * @return true if the field has been set, false otherwise
+     */
+    protected boolean setInt(T instance, String fieldName, int value) {
+        return false;
+    }
+
+    /**
+     * Sets a {@code long} field without reflection or boxing, see
+     * {@link #setField(Object, String, Object)}.
+     *
+     * @param instance the object whose field should be modified
+     * @param fieldName name of the field
+     * @param value new value for the field
+     * @return true if the field has been set, false otherwise
+     */
+    protected boolean setLong(T instance, String fieldName, long value) {
+        return false;
+    }
+
+    /**
+     * Sets a {@code float} field without reflection or boxing, see
+     * {@link #setField(Object, String, Object)}.
+     *
+     * @param instance the object whose field should be modified
+     * @param fieldName name of the field
+     * @param value new value for the field
+     * @return true if the field has been set, false otherwise
+     */
+    protected boolean setFloat(T instance, String fieldName, float value) {
+        return false;
+    }
+
+    /**
+     * Sets a {@code double} field without reflection or boxing, see
+     * {@link #setField(Object, String, Object)}.
+     *
+     * @param instance the object whose field should be modified
+     * @param fieldName name of the field
+     * @param value new value for the field
+     * @return true if the field has been set, false otherwise
+     */
+    protected boolean setDouble(T instance, String fieldName, double value) {
+        return false;
+    }
+
     private void addCachedHtmlField(FieldType field, Selector selector) {
-        SelectorSpec spec = new SelectorSpec(selector, field);
         HtmlField<T> htmlField;
+        FieldType lazyValueType = field.getLazyValueType();
+        if (lazyValueType != null) {
+            htmlField = new HtmlLazyField<>(this, field, createHtmlField(lazyValueType, selector));
+        } else {
+            htmlField = createHtmlField(field, selector);
+        }
+        htmlFieldCache.put(field.getName(), htmlField);
+    }
+
+    private HtmlField<T> createHtmlField(FieldType field, Selector selector) {
+        SelectorSpec spec = new SelectorSpec(selector, field);
         if (spec.getConverter() != null) {
-            htmlField = new HtmlFieldWithConverter<>(field, spec);
+            return new HtmlFieldWithConverter<>(this, field, spec);
         } else if (isCollectionLike(field)) {
-            htmlField = new HtmlCollectionLikeField<>(field, spec);
+            Class<?> componentClass = HtmlCollectionLikeField.getComponentClass(field);
+            HtmlAdapter<?> componentAdapter = componentClass.isPrimitive() || Utils.isSimple(componentClass)
+                    ? null : nestedAdapter(componentClass);
+            return new HtmlCollectionLikeField<>(this, field, spec, componentAdapter);
         } else if (Utils.isSimple(field.getType())) {
-            htmlField = new HtmlSimpleField<>(field, spec);
+            return new HtmlSimpleField<>(this, field, spec);
         } else {
-            htmlField = new HtmlClassField<>(field, spec);
+            return new HtmlClassField<>(this, field, spec, nestedAdapter(field.getType()));
+        }
+    }
+
+    /**
+     * Resolves the adapter of a nested type once, so that binding does not look it up for every
+     * object. An adapter of a type referring back to this one is returned before its construction
+     * completes.
+     *
+     * @return adapter of {@code clazz}, null if it has no selectors, then binding the field fails
+     * like if it was not resolved in advance
+     */
+    private HtmlAdapter<?> nestedAdapter(Class<?> clazz) {
+        try {
+            return jspoon.adapter(clazz);
+        } catch (EmptySelectorException e) {
+            return null;
         }
-        htmlFieldCache.put(field.getName(), htmlField);
     }
 
     private boolean isCollectionLike(FieldType field) {
         return field.isArray() || field.isAssignableTo(Collection.class);
     }
 
+    /**
+     * @return jspoon instance this adapter has been created by
+     */
+    Jspoon getJspoon() {
+        return jspoon;
+    }
+
+    /**
+     * @return fields bound by this adapter, in declaration order
+     */
+    Collection<HtmlField<T>> getHtmlFields() {
+        return htmlFieldCache.values();
+    }
+
+    /**
+     * Prepares formats of all fields in the calling thread, see {@link HtmlField#prepareFormats()}.
+     */
+    void prepareFormats() {
+        for (HtmlField<T> htmlField : htmlFieldCache.values()) {
+            htmlField.prepareFormats();
+        }
+    }
+
     T loadFromNode(Element node) {
         return loadFromNode(node, null);
     }
 
     private T loadFromNode(Element node, T instance) {
         if (instance == null) {
-            instance = Utils.constructInstance(clazz);
+            instance = instanceCreator.newInstance();
         }
-        for (HtmlField<T> htmlField : htmlFieldCache.values()) {
-            htmlField.setValue(jspoon, node, instance);
+        BindingListener listener = jspoon.getBindingListener();
+        if (listener != BindingListener.NONE) {
+            bindMeasured(node, instance, listener);
+            listener.objectBound(clazz);
+        } else if (singlePassSelector != null) {
+            Elements[] selected = singlePassSelector.select(node);
+            for (int i = 0; i < selected.length; i++) {
+                htmlFieldGroups.get(i).setValues(jspoon, selected[i], instance);
+            }
+        } else {
+            for (HtmlFieldGroup<T> group : htmlFieldGroups) {
+                group.setValues(jspoon, group.select(node), instance);
+            }
         }
         return instance;
     }
+
+    /**
+     * Binds the fields like {@link #loadFromNode(Element, Object)} does, reporting the time of
+     * selection and conversion of each of them to {@code listener}.
+     */
+    private void bindMeasured(Element node, T instance, BindingListener listener) {
+        if (singlePassSelector != null) {
+            long start = System.nanoTime();
+            Elements[] selected = singlePassSelector.select(node);
+            long selectionNanos = System.nanoTime() - start;
+            for (int i = 0; i < selected.length; i++) {
+                htmlFieldGroups.get(i).setValues(jspoon, selected[i], instance, listener,
+                        i == 0 ? selectionNanos : 0);
+            }
+            return;
+        }
+        for (HtmlFieldGroup<T> group : htmlFieldGroups) {
+            long start = System.nanoTime();
+            Elements selected = group.select(node);
+            group.setValues(jspoon, selected, instance, listener, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Conversion of a single document of a batch. Its outcome is published to the batching thread
+     * by releasing the permit.
+     */
+    private class BatchTask implements Runnable {
+        private final int index;
+        private final String htmlContent;
+        private final BatchCallback<? super T> callback;
+        private final Semaphore permits;
+        private final AtomicInteger inFlight;
+
+        BatchTask(int index, String htmlContent, BatchCallback<? super T> callback, Semaphore permits,
+                AtomicInteger inFlight) {
+            this.index = index;
+            this.htmlContent = htmlContent;
+            this.callback = callback;
+            this.permits = permits;
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public void run() {
+            T result = null;
+            Throwable failure = null;
+            try {
+                result = fromHtml(htmlContent);
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                complete(result, failure);
+            }
+        }
+
+        void complete(T result, Throwable failure) {
+            try {
+                callback.onResult(index, result, failure);
+            } finally {
+                inFlight.decrementAndGet();
+                permits.release();
+            }
+        }
+    }
 }
\ No newline at end of file
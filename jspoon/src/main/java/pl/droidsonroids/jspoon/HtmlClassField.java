@@ -1,18 +1,24 @@
 package pl.droidsonroids.jspoon;
 
 import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
 
 class HtmlClassField<T> extends HtmlField<T> {
-    HtmlClassField(FieldType field, SelectorSpec selector) {
-        super(field, selector);
+    private final HtmlAdapter<?> fieldAdapter;
+
+    HtmlClassField(HtmlAdapter<T> adapter, FieldType field, SelectorSpec selector, HtmlAdapter<?> fieldAdapter) {
+        super(adapter, field, selector);
+        this.fieldAdapter = fieldAdapter;
     }
 
     @Override
-    public void setValue(Jspoon jspoon, Element node, T newInstance) {
-        HtmlAdapter<?> htmlAdapter = jspoon.adapter(field.getType());
-        Element selectedNode = selectChild(node);
-        if (selectedNode != null) {
-            setFieldOrThrow(field, newInstance, htmlAdapter.loadFromNode(selectedNode));
+    Object convertValue(Jspoon jspoon, Elements elements) {
+        // Not resolved only if the type has no selectors, the lookup throws then
+        HtmlAdapter<?> htmlAdapter = fieldAdapter != null ? fieldAdapter : jspoon.adapter(field.getType());
+        Element selectedNode = selectChild(elements);
+        if (selectedNode == null) {
+            return null;
         }
+        return htmlAdapter.loadFromNode(selectedNode);
     }
 }
\ No newline at end of file
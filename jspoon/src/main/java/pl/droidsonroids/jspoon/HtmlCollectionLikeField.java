@@ -6,64 +6,150 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 
 class HtmlCollectionLikeField<T> extends HtmlField<T> {
-    HtmlCollectionLikeField(FieldType field, SelectorSpec spec) {
-        super(field, spec);
+    /** Number of chunks per thread items are split into when bound in parallel, for load balancing. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final InstanceCreator<?> collectionCreator;
+    private final Class<?> componentClass;
+    private final HtmlAdapter<?> componentAdapter;
+
+    HtmlCollectionLikeField(HtmlAdapter<T> adapter, FieldType field, SelectorSpec spec,
+            HtmlAdapter<?> componentAdapter) {
+        super(adapter, field, spec);
+        collectionCreator = (!field.isArray() && field.isConcrete())
+                ? new ConstructorInstanceCreator<>(field.getType()) : null;
+        componentClass = getComponentClass(field);
+        this.componentAdapter = componentAdapter;
+    }
+
+    static Class<?> getComponentClass(FieldType field) {
+        if (field.isArray()) {
+            return field.getArrayContentType();
+        }
+        Class<?> componentClass = field.getTypeArgumentCount() == 1 ?
+            field.getTypeArgument(0) : Object.class;
+        // Raw or <?> collections treated as Collection<String>
+        return (componentClass == Object.class) ? String.class : componentClass;
     }
 
     @Override
-    public void setValue(Jspoon jspoon, Element node, T newInstance) {
-        Elements nodes = selectChildren(node);
+    void prepareFormats() {
+        prepareFormats(Utils.wrapToObject(componentClass));
+    }
 
-        Class<?> componentClass = null;
-        if (field.isArray()) {
-            componentClass = field.getArrayContentType();
-        } else {
-            componentClass = field.getTypeArgumentCount() == 1 ?
-                field.getTypeArgument(0) : Object.class;
-            // Raw or <?> collections treated as Collection<String>
-            componentClass = (componentClass == Object.class) ? String.class : componentClass;
+    @Override
+    int requiredMatches() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    Object convertValue(Jspoon jspoon, Elements nodes) {
+        if (componentClass.isPrimitive()) {
+            return populatePrimitiveArray(nodes, componentClass);
         }
 
         Collection<?> collection = populateCollection(jspoon, nodes, componentClass);
 
         if (!field.isArray()) {
-            setFieldOrThrow(field, newInstance, collection);
-            return;
+            return collection;
         }
 
-        Object[] array = createObjectArrayInstance(componentClass, collection);
-        Object valueToSet = componentClass.isPrimitive() ?
-                ArrayUtils.toPrimitive(array, componentClass) : array;
+        return createObjectArrayInstance(componentClass, collection);
+    }
 
-        setFieldOrThrow(field, newInstance, valueToSet);
+    private Object populatePrimitiveArray(Elements nodes, Class<?> componentClass) {
+        if (nodes.isEmpty()) {
+            return null;
+        }
+        Object array = Array.newInstance(componentClass, nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            setPrimitiveElement(array, i, nodes.get(i));
+        }
+        return array;
     }
 
     private <V> Collection<V> populateCollection(Jspoon jspoon, Elements nodes, Class<V> componentClazz) {
-        @SuppressWarnings("unchecked")
         Collection<V> collectionInstance = (field.isArray() ?
-               Utils.constructInstance(ArrayList.class) : createCollectionInstance(field));
-        if (Utils.isSimple(componentClazz)) {
-            for (Element node : nodes) {
-                collectionInstance.add(instanceForNode(node, componentClazz));
+               new ArrayList<V>() : this.<V>createCollectionInstance(field));
+        @SuppressWarnings("unchecked")
+        HtmlAdapter<V> htmlAdapter = (HtmlAdapter<V>) componentAdapter;
+        if (htmlAdapter == null && !Utils.isSimple(componentClazz)) {
+            // Not resolved only if the type has no selectors, the lookup throws then
+            htmlAdapter = jspoon.adapter(componentClazz);
+        }
+        if (jspoon.isParallelBinding(nodes.size())) {
+            ForkJoinPool forkJoinPool = jspoon.getForkJoinPool();
+            Object[] values = new Object[nodes.size()];
+            int chunkSize = Math.max(1, nodes.size() / (forkJoinPool.getParallelism() * CHUNKS_PER_THREAD));
+            forkJoinPool.invoke(new BindAction<>(this, htmlAdapter, componentClazz, nodes, values,
+                    0, values.length, chunkSize));
+            for (Object value : values) {
+                collectionInstance.add(componentClazz.cast(value));
             }
         } else {
-            HtmlAdapter<V> htmlAdapter = jspoon.adapter(componentClazz);
             for (Element node : nodes) {
-                collectionInstance.add(htmlAdapter.loadFromNode(node));
+                collectionInstance.add(bind(htmlAdapter, node, componentClazz));
             }
         }
         return collectionInstance.isEmpty() ? null : collectionInstance;
     }
 
+    private <V> V bind(HtmlAdapter<V> htmlAdapter, Element node, Class<V> componentClazz) {
+        return htmlAdapter != null ? htmlAdapter.loadFromNode(node) : instanceForNode(node, componentClazz);
+    }
+
+    /**
+     * Binds a range of elements, splitting it in halves until it is not longer than a chunk.
+     */
+    private static final class BindAction<V> extends RecursiveAction {
+        private static final long serialVersionUID = 4102574362890811943L;
+
+        private final HtmlCollectionLikeField<?> htmlField;
+        private final HtmlAdapter<V> htmlAdapter;
+        private final Class<V> componentClazz;
+        private final Elements nodes;
+        private final Object[] values;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        BindAction(HtmlCollectionLikeField<?> htmlField, HtmlAdapter<V> htmlAdapter, Class<V> componentClazz,
+                Elements nodes, Object[] values, int from, int to, int chunkSize) {
+            this.htmlField = htmlField;
+            this.htmlAdapter = htmlAdapter;
+            this.componentClazz = componentClazz;
+            this.nodes = nodes;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    values[i] = htmlField.bind(htmlAdapter, nodes.get(i), componentClazz);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BindAction<>(htmlField, htmlAdapter, componentClazz, nodes, values, from, middle, chunkSize),
+                    new BindAction<>(htmlField, htmlAdapter, componentClazz, nodes, values, middle, to, chunkSize));
+        }
+    }
+
     private <V> Collection<V> createCollectionInstance(FieldType field) {
-        if (field.isConcrete()) {
+        if (collectionCreator != null) {
             @SuppressWarnings("unchecked")
-            Collection<V> collection = (Collection<V>) Utils.constructInstance(field.getType());
+            Collection<V> collection = (Collection<V>) collectionCreator.newInstance();
             return collection;
         }
         if (field.isAssignableTo(Set.class)) {
@@ -73,7 +159,10 @@ class HtmlCollectionLikeField<T> extends HtmlField<T> {
     }
 
     private Object[] createObjectArrayInstance(Class<?> componentClass, Collection<?> collection) {
-        Object[] array = (Object[]) Array.newInstance(Utils.wrapToObject(componentClass), collection.size());
+        if (collection == null) {
+            return null;
+        }
+        Object[] array = (Object[]) Array.newInstance(componentClass, collection.size());
         Iterator<?> it = collection.iterator();
         int index = 0;
         while (it.hasNext()) {
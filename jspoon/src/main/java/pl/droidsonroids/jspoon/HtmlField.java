@@ -1,14 +1,10 @@
 package pl.droidsonroids.jspoon;
 
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
-import java.text.DateFormat;
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -21,22 +17,45 @@ import pl.droidsonroids.jspoon.exception.FloatParseException;
 
 abstract class HtmlField<T> {
 
+    private final HtmlAdapter<T> adapter;
+    private final BindingListener listener;
     protected final FieldType field;
     final SelectorSpec spec;
 
-    HtmlField(FieldType field, SelectorSpec spec) {
+    HtmlField(HtmlAdapter<T> adapter, FieldType field, SelectorSpec spec) {
+        this.adapter = adapter;
+        this.listener = adapter.getJspoon().getBindingListener();
         this.field = field;
         this.spec = spec;
     }
 
-    protected abstract void setValue(Jspoon jspoon, Element node, T newInstance);
+    /**
+     * @param jspoon jspoon instance used for nested adapters
+     * @param elements elements selected by the CSS query, shared by fields with the same
+     * CSS query, must not be modified
+     * @param newInstance instance to set the field of
+     */
+    protected void setValue(Jspoon jspoon, Elements elements, T newInstance) {
+        setFieldOrThrow(newInstance, convertValue(jspoon, elements));
+    }
 
-    Elements selectChildren(Element node) {
-        return node.select(spec.getCssQuery());
+    /**
+     * @param jspoon jspoon instance used for nested adapters
+     * @param elements elements selected by the CSS query, must not be modified
+     * @return value of the field converted from {@code elements}, null if the field should be
+     * left unset
+     */
+    abstract Object convertValue(Jspoon jspoon, Elements elements);
+
+    /**
+     * @return number of leading elements selected by the CSS query which this field needs,
+     * {@link Integer#MAX_VALUE} if it needs all of them
+     */
+    int requiredMatches() {
+        return spec.getIndex() + 1;
     }
 
-    Element selectChild(Element parent) {
-        Elements elements = selectChildren(parent);
+    Element selectChild(Elements elements) {
         int size = elements.size();
         if (size == 0 || size <= spec.getIndex()) {
             return null;
@@ -44,10 +63,31 @@ abstract class HtmlField<T> {
         return elements.get(spec.getIndex());
     }
 
-    static void setFieldOrThrow(FieldType field, Object newInstance, Object value) {
+    /**
+     * Creates formats parsing the value of this field in the calling thread, loading the locale
+     * data they share with other threads.
+     */
+    void prepareFormats() {
+        prepareFormats(Utils.wrapToObject(field.getType()));
+    }
+
+    void prepareFormats(Class<?> valueType) {
+        if (valueType.equals(Date.class)) {
+            spec.dateFormat();
+        } else if (valueType.equals(BigDecimal.class)) {
+            spec.bigDecimalFormat();
+        } else if (valueType.equals(Float.class) || valueType.equals(Double.class)) {
+            spec.numberFormat();
+        }
+    }
+
+    void setFieldOrThrow(T newInstance, Object value) {
         if (value == null) {
             return;
         }
+        if (adapter.setField(newInstance, field.getName(), value)) {
+            return;
+        }
         try {
             field.set(newInstance, value);
         }
@@ -56,6 +96,78 @@ abstract class HtmlField<T> {
         }
     }
 
+    /**
+     * Converts the node's value to the primitive type of the field and sets it without boxing.
+     * Primitive types not supported by {@link #instanceForNode(Element, Class)} are left unset.
+     */
+    void setPrimitiveOrThrow(T newInstance, Element node) {
+        Class<?> type = field.getType();
+        String name = field.getName();
+        String value = getValue(node, type);
+        try {
+            if (type == boolean.class) {
+                boolean parsed = Boolean.parseBoolean(value);
+                if (!adapter.setBoolean(newInstance, name, parsed)) {
+                    field.setBoolean(newInstance, parsed);
+                }
+            } else if (type == int.class) {
+                int parsed = Integer.parseInt(value);
+                if (!adapter.setInt(newInstance, name, parsed)) {
+                    field.setInt(newInstance, parsed);
+                }
+            } else if (type == long.class) {
+                long parsed = Long.parseLong(value);
+                if (!adapter.setLong(newInstance, name, parsed)) {
+                    field.setLong(newInstance, parsed);
+                }
+            } else if (type == float.class) {
+                float parsed = getFloat(value);
+                if (!adapter.setFloat(newInstance, name, parsed)) {
+                    field.setFloat(newInstance, parsed);
+                }
+            } else if (type == double.class) {
+                double parsed = getDouble(value);
+                if (!adapter.setDouble(newInstance, name, parsed)) {
+                    field.setDouble(newInstance, parsed);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new FieldSetException(newInstance.getClass().getSimpleName(), name);
+        } catch (Throwable t) {
+            if (shouldSkipOn(t)) {
+                return;
+            }
+            throw t;
+        }
+    }
+
+    /**
+     * Converts the node's value to the component type of the primitive {@code array} and sets it at
+     * {@code index} without boxing. Unsupported or skipped values are left as initial values.
+     */
+    void setPrimitiveElement(Object array, int index, Element node) {
+        Class<?> type = array.getClass().getComponentType();
+        String value = getValue(node, type);
+        try {
+            if (type == boolean.class) {
+                Array.setBoolean(array, index, Boolean.parseBoolean(value));
+            } else if (type == int.class) {
+                Array.setInt(array, index, Integer.parseInt(value));
+            } else if (type == long.class) {
+                Array.setLong(array, index, Long.parseLong(value));
+            } else if (type == float.class) {
+                Array.setFloat(array, index, getFloat(value));
+            } else if (type == double.class) {
+                Array.setDouble(array, index, getDouble(value));
+            }
+        } catch (Throwable t) {
+            if (shouldSkipOn(t)) {
+                return;
+            }
+            throw t;
+        }
+    }
+
     <U> U instanceForNode(Element node, Class<U> fieldType) {
         // if clazz.isPrimitive convert it to it's Object counterpart
         fieldType = Utils.wrapToObject(fieldType);
@@ -102,7 +214,7 @@ abstract class HtmlField<T> {
 
         } catch (Throwable t) {
 
-            if (spec.shouldSkipOn(t)) {
+            if (shouldSkipOn(t)) {
                 return null;
             }
             throw t;
@@ -115,7 +227,7 @@ abstract class HtmlField<T> {
 
     private <U> String getValue(Element node, Class<U> fieldType) {
         if (node == null) {
-            return spec.getDefaultValue();
+            return defaultValue();
         }
         String value;
         switch (spec.getAttribute()) {
@@ -134,28 +246,40 @@ abstract class HtmlField<T> {
             value = node.attr(spec.getAttribute());
             break;
         }
-        if (spec.getRegex() != null) {
-            Pattern pattern = Pattern.compile(spec.getRegex());
-            Matcher matcher = pattern.matcher(value);
-            if (matcher.find()) {
-                value = (matcher.groupCount() > 0) ? matcher.group(1) : spec.getDefaultValue();
-                if (value == null || value.isEmpty()) {
-                    value = spec.getDefaultValue();
-                }
-            } else {
-                value = spec.getDefaultValue();
-            }
-
+        Matcher matcher = spec.regexMatcher(value);
+        if (matcher != null) {
+            String group = matcher.find() && matcher.groupCount() > 0 ? matcher.group(1) : null;
+            // release the input, e.g. an outerHtml fragment, held by the thread confined matcher
+            matcher.reset("");
+            value = (group != null && !group.isEmpty()) ? group : defaultValue();
         }
         return value;
     }
 
+    private String defaultValue() {
+        if (listener != BindingListener.NONE) {
+            listener.defaultValueUsed(field.unwrap(), spec.getSelectorAnnotation());
+        }
+        return spec.getDefaultValue();
+    }
+
+    /**
+     * @return true if {@code exception} thrown by conversion should be ignored, leaving the value
+     * unset
+     */
+    private boolean shouldSkipOn(Throwable exception) {
+        if (!spec.shouldSkipOn(exception)) {
+            return false;
+        }
+        if (listener != BindingListener.NONE) {
+            listener.exceptionSkipped(field.unwrap(), spec.getSelectorAnnotation(), exception);
+        }
+        return true;
+    }
+
     private Date getDate(String value) {
         try {
-            if (spec.getFormat() == null) {
-                return DateFormat.getDateInstance(DateFormat.DEFAULT, spec.getLocale()).parse(value);
-            }
-            return new SimpleDateFormat(spec.getFormat(), spec.getLocale()).parse(value);
+            return spec.dateFormat().parse(value);
         }
         catch (ParseException e) {
             throw new DateParseException(value, spec.getFormat(), spec.getLocale());
@@ -164,12 +288,7 @@ abstract class HtmlField<T> {
 
     private BigDecimal getBigDecimal(String value) {
         try {
-            DecimalFormat decimalFormat = (spec.getFormat() == null)
-                    ? (DecimalFormat) DecimalFormat.getInstance(spec.getLocale())
-                            : new DecimalFormat(spec.getFormat());
-
-            decimalFormat.setParseBigDecimal(true);
-            return (BigDecimal) decimalFormat.parse(value);
+            return (BigDecimal) spec.bigDecimalFormat().parse(value);
         }
         catch (ParseException e) {
             throw new BigDecimalParseException(value, spec.getFormat(), spec.getLocale());
@@ -177,18 +296,26 @@ abstract class HtmlField<T> {
 
     }
 
-    private Double getDouble(String value) {
+    private double getDouble(String value) {
+        double parsed = spec.numberParser().parseDouble(value);
+        if (!Double.isNaN(parsed)) {
+            return parsed;
+        }
         try {
-            return NumberFormat.getInstance(spec.getLocale()).parse(value).doubleValue();
+            return spec.numberFormat().parse(value).doubleValue();
         }
         catch (ParseException e) {
             throw new DoubleParseException(value, spec.getLocale());
         }
     }
 
-    private Float getFloat(String value) {
+    private float getFloat(String value) {
+        double parsed = spec.numberParser().parseDouble(value);
+        if (!Double.isNaN(parsed)) {
+            return (float) parsed;
+        }
         try {
-            return NumberFormat.getInstance(spec.getLocale()).parse(value).floatValue();
+            return spec.numberFormat().parse(value).floatValue();
         }
         catch (ParseException e) {
             throw new FloatParseException(value, spec.getLocale());
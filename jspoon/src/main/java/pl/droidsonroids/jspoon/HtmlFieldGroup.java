@@ -0,0 +1,78 @@
+package pl.droidsonroids.jspoon;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+/**
+ * Fields of a single adapter sharing the same CSS query, which is evaluated once per node and its
+ * result is handed to all of them.
+ */
+class HtmlFieldGroup<T> {
+
+    private final SelectorSpec spec;
+    private final List<HtmlField<T>> htmlFields = new ArrayList<>();
+    private int requiredMatches;
+
+    HtmlFieldGroup(HtmlField<T> first) {
+        this.spec = first.spec;
+        add(first);
+    }
+
+    void add(HtmlField<T> htmlField) {
+        htmlFields.add(htmlField);
+        requiredMatches = Math.max(requiredMatches, htmlField.requiredMatches());
+    }
+
+    /**
+     * @return spec of the first field, having the CSS query common to the group
+     */
+    SelectorSpec getSpec() {
+        return spec;
+    }
+
+    /**
+     * @return number of leading matches any field of the group needs, {@link Integer#MAX_VALUE}
+     * if all of them are needed
+     */
+    int getRequiredMatches() {
+        return requiredMatches;
+    }
+
+    /**
+     * @return elements selected by the CSS query, if none of the fields needs all of them only
+     * the leading {@link #getRequiredMatches()} ones are searched for
+     */
+    Elements select(Element node) {
+        if (requiredMatches == Integer.MAX_VALUE) {
+            return spec.select(node);
+        }
+        return spec.select(node, requiredMatches);
+    }
+
+    void setValues(Jspoon jspoon, Elements elements, T instance) {
+        for (HtmlField<T> htmlField : htmlFields) {
+            htmlField.setValue(jspoon, elements, instance);
+        }
+    }
+
+    /**
+     * Sets the fields like {@link #setValues(Jspoon, Elements, Object)} does, reporting each of
+     * them to {@code listener}.
+     *
+     * @param selectionNanos time of selecting {@code elements}, reported for the first field only
+     */
+    void setValues(Jspoon jspoon, Elements elements, T instance, BindingListener listener,
+            long selectionNanos) {
+        for (HtmlField<T> htmlField : htmlFields) {
+            long start = System.nanoTime();
+            htmlField.setValue(jspoon, elements, instance);
+            long conversionNanos = System.nanoTime() - start;
+            listener.fieldBound(htmlField.field.unwrap(), htmlField.spec.getSelectorAnnotation(),
+                    elements.size(), selectionNanos, conversionNanos);
+            selectionNanos = 0;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package pl.droidsonroids.jspoon;
 
 import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
 
 import pl.droidsonroids.jspoon.annotation.Selector;
 
@@ -8,20 +9,20 @@ class HtmlFieldWithConverter<T> extends HtmlField<T> {
 
     private final ElementConverter<?> converter;
 
-    HtmlFieldWithConverter(FieldType field, SelectorSpec spec) {
-        super(field, spec);
+    HtmlFieldWithConverter(HtmlAdapter<T> adapter, FieldType field, SelectorSpec spec) {
+        super(adapter, field, spec);
 
         Class<? extends ElementConverter<?>> converterClass = spec.getConverter();
         converter = Utils.constructInstance(converterClass);
     }
 
     @Override
-    public void setValue(Jspoon jspoon, Element node, T newInstance) {
-        Element selectedNode = selectChild(node);
-        if (selectedNode != null) {
-            Selector selectorAnnotation = spec.getSelectorAnnotation();
-            Object converted = converter.convert(selectedNode, selectorAnnotation);
-            setFieldOrThrow(field, newInstance, converted);
+    Object convertValue(Jspoon jspoon, Elements elements) {
+        Element selectedNode = selectChild(elements);
+        if (selectedNode == null) {
+            return null;
         }
+        Selector selectorAnnotation = spec.getSelectorAnnotation();
+        return converter.convert(selectedNode, selectorAnnotation);
     }
 }
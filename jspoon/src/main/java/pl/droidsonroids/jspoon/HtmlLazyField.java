@@ -0,0 +1,60 @@
+package pl.droidsonroids.jspoon;
+
+import org.jsoup.select.Elements;
+
+/**
+ * Field of {@link Lazy} type, delegating conversion to the field of its value type when the value
+ * is accessed.
+ */
+class HtmlLazyField<T> extends HtmlField<T> {
+
+    private final HtmlField<T> valueField;
+
+    HtmlLazyField(HtmlAdapter<T> adapter, FieldType field, HtmlField<T> valueField) {
+        super(adapter, field, valueField.spec);
+        this.valueField = valueField;
+    }
+
+    @Override
+    void prepareFormats() {
+        valueField.prepareFormats();
+    }
+
+    @Override
+    int requiredMatches() {
+        return valueField.requiredMatches();
+    }
+
+    @Override
+    Object convertValue(Jspoon jspoon, Elements elements) {
+        return new LazyValue<>(jspoon, valueField, elements);
+    }
+
+    private static final class LazyValue<V> implements Lazy<V> {
+
+        private Jspoon jspoon;
+        private HtmlField<?> valueField;
+        private Elements elements;
+        private V value;
+
+        LazyValue(Jspoon jspoon, HtmlField<?> valueField, Elements elements) {
+            this.jspoon = jspoon;
+            this.valueField = valueField;
+            this.elements = elements;
+        }
+
+        @Override
+        public synchronized V get() {
+            if (elements != null) {
+                @SuppressWarnings("unchecked")
+                V converted = (V) valueField.convertValue(jspoon, elements);
+                value = converted;
+                // release the document
+                jspoon = null;
+                valueField = null;
+                elements = null;
+            }
+            return value;
+        }
+    }
+}
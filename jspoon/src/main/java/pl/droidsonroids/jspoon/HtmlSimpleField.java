@@ -1,15 +1,23 @@
 package pl.droidsonroids.jspoon;
 
-import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
 
 class HtmlSimpleField<T> extends HtmlField<T> {
-    HtmlSimpleField(FieldType field, SelectorSpec spec) {
-        super(field, spec);
+    HtmlSimpleField(HtmlAdapter<T> adapter, FieldType field, SelectorSpec spec) {
+        super(adapter, field, spec);
     }
 
     @Override
-    public void setValue(Jspoon jspoon, Element node, T newInstance) {
-        Element selectedNode = selectChild(node);
-        setFieldOrThrow(field, newInstance, instanceForNode(selectedNode, field.getType()));
+    public void setValue(Jspoon jspoon, Elements elements, T newInstance) {
+        if (field.getType().isPrimitive()) {
+            setPrimitiveOrThrow(newInstance, selectChild(elements));
+            return;
+        }
+        super.setValue(jspoon, elements, newInstance);
+    }
+
+    @Override
+    Object convertValue(Jspoon jspoon, Elements elements) {
+        return instanceForNode(selectChild(elements), field.getType());
     }
 }
\ No newline at end of file
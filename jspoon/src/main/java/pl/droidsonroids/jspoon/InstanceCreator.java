@@ -0,0 +1,18 @@
+package pl.droidsonroids.jspoon;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Creates instances to be populated by a {@link HtmlAdapter}. Can be used to supply pooled or
+ * prebuilt instances, or objects of classes without a default constructor.
+ *
+ * @param <T> type of created instances
+ * @see Jspoon.Builder#registerInstanceCreator(Class, InstanceCreator)
+ */
+public interface InstanceCreator<T> {
+
+    /**
+     * @return instance to be populated, called once per created object
+     */
+    @NotNull T newInstance();
+}
@@ -1,16 +1,61 @@
 package pl.droidsonroids.jspoon;
 
 import org.jetbrains.annotations.NotNull;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import pl.droidsonroids.jspoon.exception.ObjectCreationException;
 
 /**
  * Coordinates binding between HTML values and Java objects.
  */
 public class Jspoon {
 
-    private Map<Class<?>, HtmlAdapter<?>> adapterCache;
+    /** Suffix of adapters generated by {@code jspoon-processor}. */
+    static final String GENERATED_ADAPTER_SUFFIX = "_JspoonAdapter";
+
+    /** Maximum number of parsed CSS queries kept by {@link #evaluator(String)}. */
+    private static final int EVALUATOR_CACHE_SIZE = 256;
+
+    /** Least recently used parsed CSS queries, shared by all adapters, guarded by itself. */
+    private static final Map<String, Evaluator> EVALUATOR_CACHE =
+            new LinkedHashMap<String, Evaluator>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Evaluator> eldest) {
+                    return size() > EVALUATOR_CACHE_SIZE;
+                }
+            };
+
+    private final Object adapterCreationLock = new Object();
+    /**
+     * Adapters being created, along with the nested ones they depend on, published to
+     * {@link #adapterCache} once the outermost of them is complete. Guarded by
+     * {@link #adapterCreationLock}.
+     */
+    private final Map<Class<?>, HtmlAdapter<?>> adaptersInCreation = new HashMap<>();
+    private int adapterCreationDepth;
+    Map<Class<?>, HtmlAdapter<?>> adapterCache;
+    private Map<Class<?>, InstanceCreator<?>> instanceCreators;
+    private Map<String, AdapterMetadata.AdapterEntry> metadata;
+    private boolean singlePassSelection;
+    private ForkJoinPool forkJoinPool;
+    private int parallelThreshold;
+    private BindingListener bindingListener;
 
     /**
      * Creates a new Jspoon instance.
@@ -18,15 +63,37 @@ public class Jspoon {
      * @return a new Jspoon instance
      */
     public static @NotNull Jspoon create() {
-        return new Jspoon();
+        return builder().build();
+    }
+
+    /**
+     * Creates a builder for configuring a new Jspoon instance.
+     *
+     * @return a new builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
     }
 
-    private Jspoon() {
+    private Jspoon(Builder builder) {
         this.adapterCache = new ConcurrentHashMap<>();
+        this.instanceCreators = new HashMap<>(builder.instanceCreators);
+        this.metadata = new HashMap<>(builder.metadata);
+        this.singlePassSelection = builder.singlePassSelection;
+        this.forkJoinPool = builder.forkJoinPool;
+        this.parallelThreshold = builder.parallelThreshold;
+        this.bindingListener = builder.bindingListener;
     }
 
     /**
-     * Returns a HTML adapter for {@code clazz}, creating it if necessary.
+     * Returns a HTML adapter for {@code clazz}, creating it if necessary. An adapter generated
+     * by {@code jspoon-processor} is preferred if present.
+     * <p>
+     * Each adapter is created once, even if many threads ask for it concurrently. Creation is
+     * serialized by a single reentrant lock, so adapters of models referring to each other may be
+     * requested while another one is being created without a risk of deadlock. An adapter
+     * requested while it is being created, by a model referring to itself directly or indirectly,
+     * is returned before its construction completes, it must not be used until then.
      *
      * @param clazz Class for creating objects
      * @param <T> Class for creating objects
@@ -35,9 +102,352 @@ public class Jspoon {
 
     @SuppressWarnings("unchecked")
     public @NotNull <T> HtmlAdapter<T> adapter(Class<T> clazz) {
-        if (!adapterCache.containsKey(clazz)) {
-            adapterCache.put(clazz, new HtmlAdapter<>(this, clazz));
+        HtmlAdapter<?> adapter = adapterCache.get(clazz);
+        if (adapter == null) {
+            synchronized (adapterCreationLock) {
+                adapter = adapterCache.get(clazz);
+                if (adapter == null) {
+                    adapter = adaptersInCreation.get(clazz);
+                }
+                if (adapter == null) {
+                    adapter = createAdapter(clazz);
+                }
+            }
+        }
+        return (HtmlAdapter<T>) adapter;
+    }
+
+    private <T> HtmlAdapter<T> createAdapter(Class<T> clazz) {
+        adapterCreationDepth++;
+        try {
+            HtmlAdapter<T> adapter = newAdapter(clazz);
+            adaptersInCreation.put(clazz, adapter);
+            if (adapterCreationDepth == 1) {
+                adapterCache.putAll(adaptersInCreation);
+            }
+            return adapter;
+        } catch (RuntimeException e) {
+            adaptersInCreation.remove(clazz);
+            throw e;
+        } finally {
+            if (--adapterCreationDepth == 0) {
+                adaptersInCreation.clear();
+            }
+        }
+    }
+
+    /**
+     * Called by {@link HtmlAdapter} before it resolves adapters of nested types, so that the ones
+     * referring back to {@code clazz} get {@code adapter} instead of creating it again.
+     */
+    <T> void adapterCreationStarted(Class<T> clazz, HtmlAdapter<T> adapter) {
+        // Only adapters created by adapter(Class) are shared, they hold the lock
+        if (Thread.holdsLock(adapterCreationLock) && !adaptersInCreation.containsKey(clazz)) {
+            adaptersInCreation.put(clazz, adapter);
+        }
+    }
+
+    /**
+     * Parses {@code htmlContent} once for binding it to objects of many model classes, see
+     * {@link SharedDocument}.
+     *
+     * @param htmlContent String with HTML content
+     * @return parsed document
+     */
+    public @NotNull SharedDocument parseDocument(@NotNull String htmlContent) {
+        return new SharedDocument(this, Jsoup.parse(htmlContent));
+    }
+
+    /**
+     * Wraps an already parsed element, e.g. a jsoup {@code Document}, for binding it to objects of
+     * many model classes, see {@link SharedDocument}.
+     *
+     * @param root element to bind, must not be modified while binding
+     * @return document rooted at {@code root}
+     */
+    public @NotNull SharedDocument document(@NotNull Element root) {
+        return new SharedDocument(this, root);
+    }
+
+    /**
+     * Binds {@code sampleHtml} to a new {@code T} object {@code iterations} times, discarding the
+     * results, so that the binding code of the adapter and the nested ones gets compiled by the JIT
+     * before the first real documents arrive. The sample should be representative, i.e. contain
+     * elements of all the fields, as the code of missing ones is not run.
+     *
+     * @param clazz Class for creating objects
+     * @param sampleHtml HTML content like the one to be converted later
+     * @param iterations number of times to bind the sample
+     * @param <T> Class for creating objects
+     */
+    public <T> void warmUp(@NotNull Class<T> clazz, @NotNull String sampleHtml, int iterations) {
+        HtmlAdapter<T> htmlAdapter = adapter(clazz);
+        for (int i = 0; i < iterations; i++) {
+            htmlAdapter.fromHtml(sampleHtml);
+        }
+    }
+
+    /**
+     * Writes metadata of adapters of {@code classes}, of all the types nested in them and of the
+     * adapters created by this instance so far, in a compact binary form. The metadata holds the
+     * bound fields along with their resolved types and annotations, so that adapters of a Jspoon
+     * instance built with {@link Builder#metadata(InputStream, String)} are created without
+     * scanning classes and parsing annotations. It is meant to be written at build time.
+     * <p>
+     * Metadata is not compared with the classes when it is loaded, so it has to be regenerated
+     * after every change of the models, with a new {@code modelVersion}, e.g. the version of the
+     * application or a hash of the model sources computed by the build. Metadata of another
+     * version is ignored.
+     * <p>
+     * Does not close the {@code OutputStream}.
+     *
+     * @param outputStream OutputStream to write metadata to
+     * @param modelVersion version of the models the metadata is written for
+     * @param classes classes of objects to be created
+     * @throws IOException If I/O error occurs while writing to the {@code OutputStream}
+     */
+    public void writeMetadata(@NotNull OutputStream outputStream, @NotNull String modelVersion,
+            @NotNull Class<?>... classes) throws IOException {
+        for (Class<?> clazz : classes) {
+            adapter(clazz);
+        }
+        AdapterMetadata.write(outputStream, modelVersion, adapterCache);
+    }
+
+    /**
+     * @return fields of the adapter of {@code clazz} restored from metadata, null if there is no
+     * valid metadata for it
+     */
+    List<AdapterMetadata.FieldEntry> metadata(Class<?> clazz) {
+        AdapterMetadata.AdapterEntry adapter = metadata.get(clazz.getName());
+        return adapter != null ? AdapterMetadata.readFields(adapter, clazz) : null;
+    }
+
+    private void preload(List<Class<?>> classes) {
+        for (Class<?> clazz : classes) {
+            adapter(clazz);
+        }
+        for (HtmlAdapter<?> htmlAdapter : adapterCache.values()) {
+            htmlAdapter.prepareFormats();
+        }
+    }
+
+    /**
+     * @return instance creator registered for exactly {@code clazz} or null
+     */
+    @SuppressWarnings("unchecked")
+    <T> InstanceCreator<T> instanceCreator(Class<T> clazz) {
+        return (InstanceCreator<T>) instanceCreators.get(clazz);
+    }
+
+    /**
+     * @return true if adapters select elements for all their fields in a single traversal
+     */
+    boolean isSinglePassSelection() {
+        return singlePassSelection;
+    }
+
+    /**
+     * @return pool to bind collections in parallel or null if they are bound sequentially
+     */
+    ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * @param size number of elements selected for a collection field
+     * @return true if elements should be bound in parallel in {@link #getForkJoinPool()}
+     */
+    boolean isParallelBinding(int size) {
+        return forkJoinPool != null && size >= parallelThreshold;
+    }
+
+    /**
+     * @return listener of bound fields, {@link BindingListener#NONE} by default
+     */
+    BindingListener getBindingListener() {
+        return bindingListener;
+    }
+
+    /**
+     * Parses a CSS query, evaluators are immutable so the ones of recently used queries are
+     * shared by all adapters.
+     *
+     * @param cssQuery CSS query to parse
+     * @return evaluator matching elements selected by {@code cssQuery}
+     * @throws org.jsoup.select.Selector.SelectorParseException if the query is invalid
+     */
+    static Evaluator evaluator(String cssQuery) {
+        synchronized (EVALUATOR_CACHE) {
+            Evaluator evaluator = EVALUATOR_CACHE.get(cssQuery);
+            if (evaluator == null) {
+                evaluator = QueryParser.parse(cssQuery);
+                EVALUATOR_CACHE.put(cssQuery, evaluator);
+            }
+            return evaluator;
+        }
+    }
+
+    private <T> HtmlAdapter<T> newAdapter(Class<T> clazz) {
+        String generatedName = generatedAdapterName(clazz);
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedName, true, clazz.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return new HtmlAdapter<>(this, clazz);
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            HtmlAdapter<T> generated = (HtmlAdapter<T>) generatedClass.getConstructor(Jspoon.class)
+                    .newInstance(this);
+            return generated;
+        } catch (InvocationTargetException e) {
+            // Rethrown as is, e.g. EmptySelectorException or an invalid regex of a field
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ObjectCreationException(generatedName, cause);
+        } catch (ReflectiveOperationException e) {
+            throw new ObjectCreationException(generatedName, e);
+        }
+    }
+
+    /**
+     * @return binary name of the adapter generated for {@code clazz}, e.g.
+     * {@code com.example.Outer_Inner_JspoonAdapter} for {@code com.example.Outer.Inner}
+     */
+    static String generatedAdapterName(Class<?> clazz) {
+        String name = clazz.getName();
+        int packageEnd = name.lastIndexOf('.') + 1;
+        return name.substring(0, packageEnd) + name.substring(packageEnd).replace('$', '_')
+                + GENERATED_ADAPTER_SUFFIX;
+    }
+
+    /**
+     * Builds {@link Jspoon} instances.
+     */
+    public static final class Builder {
+
+        private final Map<Class<?>, InstanceCreator<?>> instanceCreators = new HashMap<>();
+        private final List<Class<?>> preloadedClasses = new ArrayList<>();
+        private final Map<String, AdapterMetadata.AdapterEntry> metadata = new HashMap<>();
+        private boolean singlePassSelection;
+        private ForkJoinPool forkJoinPool;
+        private int parallelThreshold;
+        private BindingListener bindingListener = BindingListener.NONE;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers a creator of {@code clazz} instances, used instead of the default constructor
+         * (or the one called by a generated adapter).
+         *
+         * @param clazz class of created instances
+         * @param instanceCreator creator to use
+         * @param <T> class of created instances
+         * @return this builder
+         */
+        public @NotNull <T> Builder registerInstanceCreator(@NotNull Class<T> clazz,
+                @NotNull InstanceCreator<? extends T> instanceCreator) {
+            instanceCreators.put(clazz, instanceCreator);
+            return this;
+        }
+
+        /**
+         * Makes adapters select elements for all their fields in a single traversal of the node's
+         * subtree, instead of one traversal per distinct CSS query. The traversal stops once
+         * every single-valued field has got its element at {@link
+         * pl.droidsonroids.jspoon.annotation.Selector#index()}, which pays off for models with many
+         * fields. Disabled by default.
+         *
+         * @param singlePassSelection true to enable single pass selection
+         * @return this builder
+         */
+        public @NotNull Builder singlePassSelection(boolean singlePassSelection) {
+            this.singlePassSelection = singlePassSelection;
+            return this;
+        }
+
+        /**
+         * Makes adapters bind elements of collection and array fields concurrently in
+         * {@code forkJoinPool}, if at least {@code threshold} elements are selected. Bound objects
+         * are collected in document order. The parsed document is only read while binding, but
+         * {@link InstanceCreator}s and {@link ElementConverter}s of collection items have to be
+         * thread safe. By default collections are bound sequentially.
+         *
+         * @param forkJoinPool pool to bind collection items in
+         * @param threshold minimum number of elements for binding in parallel, at least 2
+         * @return this builder
+         */
+        public @NotNull Builder parallelCollectionBinding(@NotNull ForkJoinPool forkJoinPool, int threshold) {
+            if (threshold < 2) {
+                throw new IllegalArgumentException("Threshold must be at least 2, got " + threshold);
+            }
+            this.forkJoinPool = forkJoinPool;
+            this.parallelThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Reports the time spent on selecting and converting every bound field, the number of
+         * selected elements, default value fallbacks and exceptions ignored because of
+         * {@link pl.droidsonroids.jspoon.annotation.SkipOn} to {@code bindingListener}. Nothing is
+         * measured by default.
+         *
+         * @param bindingListener listener to report to
+         * @return this builder
+         */
+        public @NotNull Builder bindingListener(@NotNull BindingListener bindingListener) {
+            this.bindingListener = bindingListener;
+            return this;
+        }
+
+        /**
+         * Makes adapters of {@code classes}, and of all the types nested in them, be created when
+         * the Jspoon instance is built rather than on first use, along with parsed CSS queries,
+         * compiled regexes, converters and the formats of the building thread. Errors in the
+         * models, like ones without any selector, are reported by {@link #build()} then.
+         *
+         * @param classes classes of objects to be created later
+         * @return this builder
+         * @see Jspoon#warmUp(Class, String, int)
+         */
+        public @NotNull Builder preload(@NotNull Class<?>... classes) {
+            Collections.addAll(preloadedClasses, classes);
+            return this;
+        }
+
+        /**
+         * Loads metadata written by {@link Jspoon#writeMetadata(OutputStream, String, Class[])},
+         * adapters of classes it covers are created from it instead of scanning the classes. The
+         * metadata is ignored if it has been written for another {@code modelVersion}.
+         * <p>
+         * Does not close the {@code InputStream}.
+         *
+         * @param inputStream InputStream with metadata
+         * @param modelVersion version of the models of the application
+         * @return this builder
+         * @throws IOException If I/O error occurs while reading the {@code InputStream} or it
+         * does not contain metadata
+         */
+        public @NotNull Builder metadata(@NotNull InputStream inputStream, @NotNull String modelVersion)
+                throws IOException {
+            metadata.putAll(AdapterMetadata.read(inputStream, modelVersion));
+            return this;
+        }
+
+        /**
+         * @return a new Jspoon instance
+         */
+        public @NotNull Jspoon build() {
+            Jspoon jspoon = new Jspoon(this);
+            jspoon.preload(preloadedClasses);
+            return jspoon;
         }
-        return (HtmlAdapter<T>) adapterCache.get(clazz);
     }
 }
@@ -0,0 +1,25 @@
+package pl.droidsonroids.jspoon;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Field type deferring conversion of the selected elements until the value is accessed. Useful for
+ * expensive fields, like nested objects or long lists, which are rarely read.
+ * <p>
+ * Example: {@code @Selector("table.items tr") Lazy<List<Item>> items;}
+ * <p>
+ * Until the value is accessed, the selected elements, and thus the parsed document, are retained.
+ *
+ * @param <T> type of the value, any type supported for {@link pl.droidsonroids.jspoon.annotation.Selector}
+ * fields
+ */
+public interface Lazy<T> {
+
+    /**
+     * Converts the value on the first call, subsequent calls return the same value.
+     *
+     * @return value converted from the selected elements, null if it would be left unset on an
+     * eagerly bound field
+     */
+    @Nullable T get();
+}
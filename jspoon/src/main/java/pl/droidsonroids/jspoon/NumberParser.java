@@ -0,0 +1,130 @@
+package pl.droidsonroids.jspoon;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Parses plain decimal numbers, like {@code -1,234.5} in {@link Locale#US}, directly from
+ * characters without going through {@link NumberFormat}. Separators are taken from the
+ * {@link Locale} once, upon creation.
+ * <p>
+ * Only input which {@link NumberFormat#parse(String)} would parse to exactly the same value is
+ * accepted, any other input (exponents, currency symbols, trailing text, too many significant
+ * digits etc.) is rejected so that the caller can fall back to {@link NumberFormat}.
+ */
+class NumberParser {
+
+    /** Number of significant digits which always fit in a double without rounding. */
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    /** Powers of ten which are exactly representable as a double. */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final ConcurrentMap<Locale, NumberParser> PARSERS = new ConcurrentHashMap<>();
+
+    private final boolean supported;
+    private final boolean groupingUsed;
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    private final char minusSign;
+
+    /**
+     * @param locale locale to take separators from
+     * @return shared parser for the given locale
+     */
+    static NumberParser forLocale(Locale locale) {
+        NumberParser parser = PARSERS.get(locale);
+        if (parser == null) {
+            parser = new NumberParser(locale);
+            NumberParser previous = PARSERS.putIfAbsent(locale, parser);
+            parser = previous != null ? previous : parser;
+        }
+        return parser;
+    }
+
+    NumberParser(Locale locale) {
+        NumberFormat numberFormat = NumberFormat.getInstance(locale);
+        if (!(numberFormat instanceof DecimalFormat)) {
+            supported = false;
+            groupingUsed = false;
+            groupingSeparator = decimalSeparator = minusSign = 0;
+            return;
+        }
+        DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+        DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        groupingUsed = decimalFormat.isGroupingUsed();
+        groupingSeparator = symbols.getGroupingSeparator();
+        decimalSeparator = symbols.getDecimalSeparator();
+        minusSign = symbols.getMinusSign();
+        supported = symbols.getZeroDigit() == '0'
+                && decimalFormat.getMultiplier() == 1
+                && !decimalFormat.isParseIntegerOnly()
+                && decimalFormat.getPositivePrefix().isEmpty()
+                && decimalFormat.getPositiveSuffix().isEmpty()
+                && decimalFormat.getNegativeSuffix().isEmpty()
+                && decimalFormat.getNegativePrefix().equals(String.valueOf(minusSign))
+                && groupingSeparator != decimalSeparator;
+    }
+
+    /**
+     * @param value characters to parse, may be null
+     * @return parsed value or {@link Double#NaN} if the value has to be parsed by a
+     * {@link NumberFormat}
+     */
+    double parseDouble(CharSequence value) {
+        if (!supported || value == null) {
+            return Double.NaN;
+        }
+        int length = value.length();
+        int position = 0;
+        boolean negative = false;
+        if (length > 0 && value.charAt(0) == minusSign) {
+            negative = true;
+            position++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean afterDecimalSeparator = false;
+        char previous = 0;
+        for (; position < length; position++) {
+            char c = value.charAt(position);
+            if (isDigit(c)) {
+                if (mantissa != 0 || c != '0') {
+                    if (++significantDigits > MAX_EXACT_DIGITS) {
+                        return Double.NaN;
+                    }
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (afterDecimalSeparator) {
+                    fractionDigits++;
+                }
+            } else if (c == decimalSeparator && !afterDecimalSeparator && isDigit(previous)) {
+                afterDecimalSeparator = true;
+            } else if (c == groupingSeparator && groupingUsed && !afterDecimalSeparator && isDigit(previous)) {
+                // grouping is accepted between any digits, as NumberFormat does
+            } else {
+                return Double.NaN;
+            }
+            previous = c;
+        }
+        if (!isDigit(previous) || fractionDigits >= POWERS_OF_TEN.length) {
+            return Double.NaN;
+        }
+
+        double result = fractionDigits == 0 ? mantissa : mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -result : result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -5,8 +5,22 @@ import static pl.droidsonroids.jspoon.annotation.Selector.NO_VALUE;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.Collector;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
 
 import pl.droidsonroids.jspoon.annotation.Format;
 import pl.droidsonroids.jspoon.annotation.Selector;
@@ -18,12 +32,41 @@ import pl.droidsonroids.jspoon.annotation.SkipOn;
 public class SelectorSpec {
 
     private final String cssQuery;
+    private final Evaluator evaluator;
     private final String attribute;
     private final String defaultValue;
     private final int index;
     private String regex;
+    private Pattern regexPattern;
+    private ThreadLocal<Matcher> regexMatcher;
     private String format;
     private Locale locale;
+    private NumberParser numberParser;
+    private final ThreadLocal<DateFormat> dateFormat = new ThreadLocal<DateFormat>() {
+        @Override
+        protected DateFormat initialValue() {
+            if (format == null) {
+                return DateFormat.getDateInstance(DateFormat.DEFAULT, locale);
+            }
+            return new SimpleDateFormat(format, locale);
+        }
+    };
+    private final ThreadLocal<DecimalFormat> bigDecimalFormat = new ThreadLocal<DecimalFormat>() {
+        @Override
+        protected DecimalFormat initialValue() {
+            DecimalFormat decimalFormat = (format == null)
+                    ? (DecimalFormat) DecimalFormat.getInstance(locale)
+                    : new DecimalFormat(format);
+            decimalFormat.setParseBigDecimal(true);
+            return decimalFormat;
+        }
+    };
+    private final ThreadLocal<NumberFormat> numberFormat = new ThreadLocal<NumberFormat>() {
+        @Override
+        protected NumberFormat initialValue() {
+            return NumberFormat.getInstance(locale);
+        }
+    };
     private Class<ElementConverter<?>> converter;
     private Selector selector;
     private Annotation[] annotations;
@@ -32,6 +75,7 @@ public class SelectorSpec {
     SelectorSpec(Selector selector, FieldType field) {
         this.selector = selector;
         this.cssQuery = selector.value();
+        this.evaluator = Jspoon.evaluator(cssQuery);
         this.attribute = selector.attr();
         this.defaultValue = NO_VALUE.equals(selector.defValue()) ? null : selector.defValue();
         this.index = selector.index();
@@ -63,11 +107,117 @@ public class SelectorSpec {
         } else {
             this.locale = Locale.getDefault();
         }
+        this.numberParser = NumberParser.forLocale(locale);
 
         // New attribute takes precedence if set
         if (!selector.regex().trim().isEmpty()) {
             this.regex = selector.regex();
         }
+
+        if (this.regex != null) {
+            this.regexPattern = Pattern.compile(this.regex);
+            this.regexMatcher = new ThreadLocal<Matcher>() {
+                @Override
+                protected Matcher initialValue() {
+                    return regexPattern.matcher("");
+                }
+            };
+        }
+    }
+
+    /**
+     * Selects elements matching the CSS query, like {@link Element#select(String)} but without
+     * parsing the query again.
+     *
+     * @param root element to select from, included in the result if it matches
+     * @return matching elements
+     */
+    Elements select(Element root) {
+        return Collector.collect(evaluator, root);
+    }
+
+    /**
+     * Selects only leading elements matching the CSS query, the traversal stops as soon as
+     * {@code limit} of them are found.
+     *
+     * @param root element to select from, included in the result if it matches
+     * @param limit maximum number of elements to select
+     * @return at most {@code limit} first matching elements
+     */
+    Elements select(final Element root, final int limit) {
+        // most fields need only the first element, do not allocate for more than a few
+        final Elements elements = new Elements(Math.min(limit, 4));
+        NodeTraversor.filter(new NodeFilter() {
+            @Override
+            public FilterResult head(Node node, int depth) {
+                if (node instanceof Element && evaluator.matches(root, (Element) node)) {
+                    elements.add((Element) node);
+                    if (elements.size() >= limit) {
+                        return FilterResult.STOP;
+                    }
+                }
+                return FilterResult.CONTINUE;
+            }
+
+            @Override
+            public FilterResult tail(Node node, int depth) {
+                return FilterResult.CONTINUE;
+            }
+        }, root);
+        return elements;
+    }
+
+    /**
+     * @return evaluator of the parsed CSS query
+     */
+    Evaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Returns a {@link Matcher} of the compiled regex reset to the given input. The matcher is
+     * confined to the calling thread and reused between calls, so it must not be retained, and it
+     * should be reset to an empty input once read, not to hold on to a possibly large input for as
+     * long as the thread lives.
+     *
+     * @param input character sequence to be matched
+     * @return thread confined matcher or null if no regex is specified
+     */
+    Matcher regexMatcher(CharSequence input) {
+        if (regexMatcher == null) {
+            return null;
+        }
+        return regexMatcher.get().reset(input);
+    }
+
+    /**
+     * @return date format for {@link #getFormat()} and {@link #getLocale()}, confined to the
+     * calling thread
+     */
+    DateFormat dateFormat() {
+        return dateFormat.get();
+    }
+
+    /**
+     * @return decimal format parsing {@link BigDecimal}s for {@link #getFormat()} and
+     * {@link #getLocale()}, confined to the calling thread
+     */
+    DecimalFormat bigDecimalFormat() {
+        return bigDecimalFormat.get();
+    }
+
+    /**
+     * @return fast path parser for plain numbers in {@link #getLocale()}
+     */
+    NumberParser numberParser() {
+        return numberParser;
+    }
+
+    /**
+     * @return number format for {@link #getLocale()}, confined to the calling thread
+     */
+    NumberFormat numberFormat() {
+        return numberFormat.get();
     }
 
     Selector getSelectorAnnotation() {
@@ -143,6 +293,13 @@ public class SelectorSpec {
         return regex;
     }
 
+    /**
+     * @return returns compiled specified regular expression or null
+     */
+    public Pattern getRegexPattern() {
+        return regexPattern;
+    }
+
     /**
      * @return returns specified expected format to parse or null
      */
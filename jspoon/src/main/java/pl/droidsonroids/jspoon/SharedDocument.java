@@ -0,0 +1,89 @@
+package pl.droidsonroids.jspoon;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.jetbrains.annotations.NotNull;
+import org.jsoup.nodes.Element;
+
+/**
+ * Parsed document bound to objects of many model classes, so that it is parsed once no matter how
+ * many of them are extracted from it. Each class is bound once, on the first request, and the
+ * same object is returned to all the subsequent ones, also from other threads, so callers must not
+ * modify it. Different classes may be bound concurrently.
+ *
+ * @see Jspoon#parseDocument(String)
+ * @see Jspoon#document(Element)
+ */
+public final class SharedDocument {
+
+    private final Jspoon jspoon;
+    private final Element root;
+    private final ConcurrentMap<Class<?>, FutureTask<Object>> values = new ConcurrentHashMap<>();
+
+    SharedDocument(Jspoon jspoon, Element root) {
+        this.jspoon = jspoon;
+        this.root = root;
+    }
+
+    /**
+     * @return root element of the document, must not be modified
+     */
+    public @NotNull Element getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns the object of {@code clazz} bound from the document, binding it on the first call.
+     * Calls for the same class made while it is being bound wait for that binding. If binding
+     * fails, its exception is thrown to all of them and the next call binds the class again.
+     *
+     * @param clazz Class for creating objects
+     * @param <T> Class for creating objects
+     * @return object bound from the document, shared by all the callers
+     */
+    public <T> T get(@NotNull final Class<T> clazz) {
+        FutureTask<Object> value = values.get(clazz);
+        if (value == null) {
+            FutureTask<Object> binding = new FutureTask<>(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return jspoon.adapter(clazz).fromElement(root);
+                }
+            });
+            value = values.putIfAbsent(clazz, binding);
+            if (value == null) {
+                value = binding;
+                binding.run();
+            }
+        }
+        return clazz.cast(await(clazz, value));
+    }
+
+    private Object await(Class<?> clazz, FutureTask<Object> value) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return value.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    values.remove(clazz, value);
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw (Error) cause;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
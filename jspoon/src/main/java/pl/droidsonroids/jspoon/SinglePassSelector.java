@@ -0,0 +1,77 @@
+package pl.droidsonroids.jspoon;
+
+import java.util.List;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+
+/**
+ * Selects elements for all field groups of an adapter in a single traversal of the node's
+ * subtree, instead of one traversal per group. Matches are collected in document order, like
+ * {@link Element#select(String)} does, and the traversal stops as soon as every group has got
+ * the number of matches it needs.
+ */
+class SinglePassSelector {
+
+    private final Evaluator[] evaluators;
+    private final int[] requiredMatches;
+    private final int pendingGroups;
+
+    SinglePassSelector(List<? extends HtmlFieldGroup<?>> groups) {
+        int size = groups.size();
+        evaluators = new Evaluator[size];
+        requiredMatches = new int[size];
+        int pending = 0;
+        for (int i = 0; i < size; i++) {
+            HtmlFieldGroup<?> group = groups.get(i);
+            evaluators[i] = group.getSpec().getEvaluator();
+            requiredMatches[i] = group.getRequiredMatches();
+            if (requiredMatches[i] > 0) {
+                pending++;
+            }
+        }
+        pendingGroups = pending;
+    }
+
+    /**
+     * @param root element to select from, included in the results if it matches
+     * @return elements matched by each group, in the order of groups passed to the constructor
+     */
+    Elements[] select(final Element root) {
+        final Elements[] results = new Elements[evaluators.length];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = new Elements();
+        }
+        NodeTraversor.filter(new NodeFilter() {
+            private int pending = pendingGroups;
+
+            @Override
+            public FilterResult head(Node node, int depth) {
+                if (!(node instanceof Element)) {
+                    return FilterResult.CONTINUE;
+                }
+                Element element = (Element) node;
+                for (int i = 0; i < evaluators.length; i++) {
+                    Elements matches = results[i];
+                    if (matches.size() < requiredMatches[i] && evaluators[i].matches(root, element)) {
+                        matches.add(element);
+                        if (matches.size() == requiredMatches[i]) {
+                            pending--;
+                        }
+                    }
+                }
+                return pending == 0 ? FilterResult.STOP : FilterResult.CONTINUE;
+            }
+
+            @Override
+            public FilterResult tail(Node node, int depth) {
+                return FilterResult.CONTINUE;
+            }
+        }, root);
+        return results;
+    }
+}
@@ -8,4 +8,8 @@ public class ObjectCreationException extends RuntimeException {
     public ObjectCreationException(String className) {
         super(String.format(Locale.ENGLISH, "Error while creating instance of %s.", className));
     }
+
+    public ObjectCreationException(String className, Throwable cause) {
+        super(String.format(Locale.ENGLISH, "Error while creating instance of %s.", className), cause);
+    }
 }
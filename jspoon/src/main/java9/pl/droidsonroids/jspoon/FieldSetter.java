@@ -0,0 +1,106 @@
+package pl.droidsonroids.jspoon;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Sets values of a single field. Primitive values are written by typed setters without boxing.
+ * <p>
+ * Java 9+ version backed by a setter {@link MethodHandle} resolved once, adapted to
+ * {@code (Object, value)} so that it can be invoked exactly.
+ */
+class FieldSetter {
+
+    private final Field field;
+    private final MethodHandle setter;
+
+    FieldSetter(Field field) {
+        field.setAccessible(true);
+        this.field = field;
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflectSetter(field);
+            handle = handle.asType(MethodType.methodType(void.class, Object.class, field.getType()));
+        } catch (IllegalAccessException e) {
+            // e.g. final fields, reflection reports the error when the field is set
+            handle = null;
+        }
+        this.setter = handle;
+    }
+
+    void set(Object instance, Object value) throws IllegalAccessException {
+        field.set(instance, value);
+    }
+
+    void setBoolean(Object instance, boolean value) throws IllegalAccessException {
+        if (setter == null || field.getType() != boolean.class) {
+            field.setBoolean(instance, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    void setInt(Object instance, int value) throws IllegalAccessException {
+        if (setter == null || field.getType() != int.class) {
+            field.setInt(instance, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    void setLong(Object instance, long value) throws IllegalAccessException {
+        if (setter == null || field.getType() != long.class) {
+            field.setLong(instance, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    void setFloat(Object instance, float value) throws IllegalAccessException {
+        if (setter == null || field.getType() != float.class) {
+            field.setFloat(instance, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    void setDouble(Object instance, double value) throws IllegalAccessException {
+        if (setter == null || field.getType() != double.class) {
+            field.setDouble(instance, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
@@ -1,12 +1,23 @@
 package pl.droidsonroids.jspoon;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Before;
 import org.junit.Test;
 import pl.droidsonroids.jspoon.annotation.Selector;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class AdapterCacheTest {
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 50;
     private Jspoon jspoon;
 
     @Before
@@ -24,4 +35,70 @@ public class AdapterCacheTest {
         HtmlAdapter<DumbModel> htmlAdapterSecond = jspoon.adapter(DumbModel.class);
         assertEquals(htmlAdapterFirst, htmlAdapterSecond);
     }
+
+    private static class TreeNode {
+        @Selector(value = "span", index = 0) String name;
+        @Selector("li > ul > li") List<TreeNode> children;
+    }
+
+    @Test
+    public void adapterCreatedOncePerClassConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                final Jspoon jspoon = Jspoon.create();
+                final CountDownLatch start = new CountDownLatch(1);
+                List<Future<HtmlAdapter<?>>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    final Class<?> clazz = i % 2 == 0 ? DumbModel.class : TreeNode.class;
+                    futures.add(executor.submit(new Callable<HtmlAdapter<?>>() {
+                        @Override
+                        public HtmlAdapter<?> call() throws InterruptedException {
+                            start.await();
+                            return jspoon.adapter(clazz);
+                        }
+                    }));
+                }
+                start.countDown();
+                for (int i = 0; i < THREADS; i++) {
+                    assertSame(futures.get(i % 2).get(), futures.get(i).get());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void selfReferentialModel() {
+        TreeNode root = jspoon.adapter(TreeNode.class).fromHtml(
+                "<ul><li><span>a</span><ul><li><span>b</span></li></ul></li></ul>");
+        assertEquals(1, root.children.size());
+        assertEquals("b", root.children.get(0).name);
+    }
+
+    private static class Topic {
+        @Selector("h1") String title;
+        @Selector("div.reply") List<Reply> replies;
+    }
+
+    private static class Reply {
+        @Selector(value = "p", index = 0) String text;
+        @Selector("div.quote") Topic quoted;
+    }
+
+    @Test
+    public void mutuallyReferentialModels() {
+        Topic topic = jspoon.adapter(Topic.class).fromHtml("<h1>t</h1><div class='reply'><p>r</p>"
+                + "<div class='quote'><h1>q</h1></div></div>");
+        assertEquals("t", topic.title);
+        assertEquals("r", topic.replies.get(0).text);
+        assertEquals("q", topic.replies.get(0).quoted.title);
+        assertSame(jspoon.adapter(Reply.class), jspoon.adapter(Reply.class));
+    }
+
+    @Test
+    public void evaluatorCache() {
+        assertSame(Jspoon.evaluator("div > span"), Jspoon.evaluator("div > span"));
+    }
 }
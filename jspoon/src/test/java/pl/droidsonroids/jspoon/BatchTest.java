@@ -0,0 +1,151 @@
+package pl.droidsonroids.jspoon;
+
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BatchTest {
+    private static final int DOCUMENTS = 200;
+    private ExecutorService executor;
+    private HtmlAdapter<Page> htmlAdapter;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        htmlAdapter = Jspoon.create().adapter(Page.class);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private static class Page {
+        @Selector("h1") String title;
+        @Selector("span") int count;
+    }
+
+    @Test
+    public void batchKeepsOrderAndIsolatesErrors() throws InterruptedException {
+        List<String> htmlContents = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            String count = i % 10 == 0 ? "not a number" : String.valueOf(i);
+            htmlContents.add("<h1>page" + i + "</h1><span>" + count + "</span>");
+        }
+
+        BatchResult<Page> result = htmlAdapter.fromHtmlBatch(htmlContents, executor, 3);
+        assertEquals(DOCUMENTS, result.size());
+        assertEquals(DOCUMENTS / 10, result.getFailureCount());
+        assertTrue(result.getPeakInFlight() <= 3);
+        for (int i = 0; i < DOCUMENTS; i++) {
+            if (i % 10 == 0) {
+                assertNull(result.get(i));
+                assertTrue(result.getError(i) instanceof NumberFormatException);
+            } else {
+                assertNull(result.getError(i));
+                assertEquals("page" + i, result.get(i).title);
+                assertEquals(i, result.values().get(i).count);
+            }
+        }
+    }
+
+    @Test
+    public void callbackReceivesEachResultOnce() throws InterruptedException {
+        List<String> htmlContents = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            String count = i % 10 == 0 ? "not a number" : String.valueOf(i);
+            htmlContents.add("<h1>page" + i + "</h1><span>" + count + "</span>");
+        }
+        final AtomicReferenceArray<Object> results = new AtomicReferenceArray<>(DOCUMENTS);
+        final AtomicInteger calls = new AtomicInteger();
+
+        htmlAdapter.fromHtmlBatch(htmlContents, executor, 3, new BatchCallback<Page>() {
+            @Override
+            public void onResult(int index, Page value, Throwable error) {
+                calls.incrementAndGet();
+                results.set(index, value != null ? value.title : error);
+            }
+        });
+        assertEquals(DOCUMENTS, calls.get());
+        for (int i = 0; i < DOCUMENTS; i++) {
+            if (i % 10 == 0) {
+                assertTrue(results.get(i) instanceof NumberFormatException);
+            } else {
+                assertEquals("page" + i, results.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void completedResultsNotRetained() throws InterruptedException {
+        final AtomicReferenceArray<WeakReference<Page>> delivered = new AtomicReferenceArray<>(DOCUMENTS);
+        final List<Integer> retained = new ArrayList<>();
+        // Produces documents lazily, with a single document in flight all but the previous one
+        // have already been delivered and released by the converting thread when the next one is
+        // requested.
+        List<String> htmlContents = new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                if (index == DOCUMENTS - 1) {
+                    int completed = DOCUMENTS - 2;
+                    for (int attempt = 0; attempt < 10 && countAlive(delivered, completed) > 0; attempt++) {
+                        System.gc();
+                    }
+                    retained.add(countAlive(delivered, completed));
+                }
+                return "<h1>page" + index + "</h1><span>" + index + "</span>";
+            }
+
+            @Override
+            public int size() {
+                return DOCUMENTS;
+            }
+        };
+
+        htmlAdapter.fromHtmlBatch(htmlContents, executor, 1, new BatchCallback<Page>() {
+            @Override
+            public void onResult(int index, Page value, Throwable error) {
+                delivered.set(index, new WeakReference<>(value));
+            }
+        });
+        assertFalse(retained.isEmpty());
+        assertEquals(0, (int) retained.get(0));
+    }
+
+    private static int countAlive(AtomicReferenceArray<WeakReference<Page>> references, int count) {
+        int alive = 0;
+        for (int i = 0; i < count; i++) {
+            if (references.get(i).get() != null) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    @Test
+    public void emptyBatch() throws InterruptedException {
+        BatchResult<Page> result = htmlAdapter.fromHtmlBatch(Collections.<String>emptyList(), executor);
+        assertEquals(0, result.size());
+        assertEquals(0, result.getFailureCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxInFlightValidated() throws InterruptedException {
+        htmlAdapter.fromHtmlBatch(Collections.<String>emptyList(), executor, 0);
+    }
+}
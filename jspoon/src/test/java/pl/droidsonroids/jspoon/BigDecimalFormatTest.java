@@ -1,11 +1,14 @@
 package pl.droidsonroids.jspoon;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -44,6 +47,24 @@ public class BigDecimalFormatTest {
         assertEquals(expected, money.amount2);
     }
 
+    @Test
+    public void formatCachedPerThread() throws Exception {
+        FieldType field = new FieldType(Money.class, Money.class.getDeclaredField("amount2"));
+        final SelectorSpec spec = new SelectorSpec(field.getAnnotation(Selector.class), field);
+        final AtomicReference<DecimalFormat> otherThreadFormat = new AtomicReference<>();
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                otherThreadFormat.set(spec.bigDecimalFormat());
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertSame(spec.bigDecimalFormat(), spec.bigDecimalFormat());
+        assertNotSame(spec.bigDecimalFormat(), otherThreadFormat.get());
+    }
+
     private <T> T createObjectFromHtml(Class<T> className) {
         HtmlAdapter<T> htmlAdapter = jspoon.adapter(className);
         return htmlAdapter.fromHtml("<div>"
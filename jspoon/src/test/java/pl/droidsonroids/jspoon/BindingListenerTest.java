@@ -0,0 +1,94 @@
+package pl.droidsonroids.jspoon;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import pl.droidsonroids.jspoon.annotation.Selector;
+import pl.droidsonroids.jspoon.annotation.SkipOn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BindingListenerTest {
+    private final static String HTML_CONTENT = "<div>"
+            + "<h1>Title</h1>"
+            + "<span class='count'>many</span>"
+            + "<ul><li>first</li><li>second</li><li>third</li></ul>"
+            + "</div>";
+
+    private static class RecordingListener extends BindingListener {
+        final Map<String, Integer> matches = new LinkedHashMap<>();
+        final List<String> selected = new ArrayList<>();
+        final List<String> defaults = new ArrayList<>();
+        final List<String> skipped = new ArrayList<>();
+        final List<String> objects = new ArrayList<>();
+
+        @Override
+        public void fieldBound(@NotNull Field field, @NotNull Selector selector, int matches,
+                long selectionNanos, long conversionNanos) {
+            assertTrue(conversionNanos >= 0);
+            this.matches.put(field.getName(), matches);
+            if (selectionNanos > 0) {
+                selected.add(field.getName());
+            }
+        }
+
+        @Override
+        public void defaultValueUsed(@NotNull Field field, @NotNull Selector selector) {
+            defaults.add(field.getName());
+        }
+
+        @Override
+        public void exceptionSkipped(@NotNull Field field, @NotNull Selector selector, @NotNull Throwable exception) {
+            skipped.add(field.getName() + ":" + exception.getClass().getSimpleName());
+        }
+
+        @Override
+        public void objectBound(@NotNull Class<?> type) {
+            objects.add(type.getSimpleName());
+        }
+    }
+
+    private static class Page {
+        @Selector("h1") String title;
+        @Selector(value = "h1", attr = "outerHtml") String titleHtml;
+        @SkipOn(NumberFormatException.class) @Selector("span.count") Integer count;
+        @Selector(value = "h2", defValue = "none") String subtitle;
+        @Selector(value = "li", regex = "(\\d+)") List<String> numbers;
+    }
+
+    @Test
+    public void fieldsReported() {
+        RecordingListener listener = new RecordingListener();
+        Jspoon jspoon = Jspoon.builder().bindingListener(listener).build();
+        Page page = jspoon.adapter(Page.class).fromHtml(HTML_CONTENT);
+
+        assertEquals("none", page.subtitle);
+        assertEquals(5, listener.matches.size());
+        assertEquals(1, (int) listener.matches.get("title"));
+        assertEquals(1, (int) listener.matches.get("titleHtml"));
+        assertEquals(0, (int) listener.matches.get("subtitle"));
+        assertEquals(3, (int) listener.matches.get("numbers"));
+        assertFalse(listener.selected.contains("titleHtml"));
+        assertEquals("[subtitle, numbers, numbers, numbers]", listener.defaults.toString());
+        assertEquals("[count:NumberFormatException]", listener.skipped.toString());
+        assertEquals("[Page]", listener.objects.toString());
+    }
+
+    @Test
+    public void singlePassSelectionReportedOnce() {
+        RecordingListener listener = new RecordingListener();
+        Jspoon jspoon = Jspoon.builder().bindingListener(listener).singlePassSelection(true).build();
+        jspoon.adapter(Page.class).fromHtml(HTML_CONTENT);
+
+        assertEquals(5, listener.matches.size());
+        assertTrue(listener.selected.size() <= 1);
+    }
+}
@@ -0,0 +1,62 @@
+package pl.droidsonroids.jspoon;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import pl.droidsonroids.jspoon.annotation.Selector;
+import pl.droidsonroids.jspoon.exception.EmptySelectorException;
+
+public class GeneratedAdapterTest {
+    private Jspoon jspoon;
+
+    @Before
+    public void setUp() {
+        jspoon = Jspoon.create();
+    }
+
+    static class Model {
+        @Selector("h1") String title;
+        @Selector("span") int count;
+        @Selector("p") private String reflective;
+    }
+
+    static class BadRegex {
+        @Selector(value = "h1", regex = "(unclosed") String title;
+    }
+
+    static class Empty {
+        String title;
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void generatedAdapterExceptionRethrown() {
+        jspoon.adapter(BadRegex.class);
+    }
+
+    @Test(expected = EmptySelectorException.class)
+    public void generatedAdapterOfClassWithoutSelectors() {
+        jspoon.adapter(Empty.class);
+    }
+
+    @Test
+    public void generatedAdapterName() {
+        assertEquals("pl.droidsonroids.jspoon.GeneratedAdapterTest_Model_JspoonAdapter",
+                Jspoon.generatedAdapterName(Model.class));
+    }
+
+    @Test
+    public void generatedAdapterPreferred() {
+        HtmlAdapter<Model> htmlAdapter = jspoon.adapter(Model.class);
+        assertTrue(htmlAdapter instanceof GeneratedAdapterTest_Model_JspoonAdapter);
+
+        Model model = htmlAdapter.fromHtml("<h1>Title</h1><span>3</span><p>text</p>");
+        assertEquals("Title", model.title);
+        assertEquals(3, model.count);
+        assertEquals("text", model.reflective);
+    }
+}
@@ -0,0 +1,12 @@
+package pl.droidsonroids.jspoon;
+
+/**
+ * Written the way {@code jspoon-processor} generates adapters, for a model whose adapter cannot be
+ * created.
+ */
+public final class GeneratedAdapterTest_BadRegex_JspoonAdapter extends HtmlAdapter<GeneratedAdapterTest.BadRegex> {
+
+    public GeneratedAdapterTest_BadRegex_JspoonAdapter(Jspoon jspoon) {
+        super(jspoon, GeneratedAdapterTest.BadRegex.class);
+    }
+}
@@ -0,0 +1,12 @@
+package pl.droidsonroids.jspoon;
+
+/**
+ * Written the way {@code jspoon-processor} generates adapters, for a model whose adapter cannot be
+ * created.
+ */
+public final class GeneratedAdapterTest_Empty_JspoonAdapter extends HtmlAdapter<GeneratedAdapterTest.Empty> {
+
+    public GeneratedAdapterTest_Empty_JspoonAdapter(Jspoon jspoon) {
+        super(jspoon, GeneratedAdapterTest.Empty.class);
+    }
+}
@@ -0,0 +1,42 @@
+package pl.droidsonroids.jspoon;
+
+/**
+ * Written the way {@code jspoon-processor} generates adapters, fields not handled here are set via
+ * reflection.
+ */
+public final class GeneratedAdapterTest_Model_JspoonAdapter extends HtmlAdapter<GeneratedAdapterTest.Model> {
+
+    public GeneratedAdapterTest_Model_JspoonAdapter(Jspoon jspoon) {
+        super(jspoon, GeneratedAdapterTest.Model.class, new InstanceCreator<GeneratedAdapterTest.Model>() {
+            @Override
+            public GeneratedAdapterTest.Model newInstance() {
+                return new GeneratedAdapterTest.Model();
+            }
+        });
+    }
+
+    @Override
+    protected boolean setField(GeneratedAdapterTest.Model instance, String fieldName, Object value) {
+        switch (fieldName) {
+        case "title":
+            instance.title = (String) value;
+            return true;
+        case "count":
+            instance.count = (Integer) value;
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    @Override
+    protected boolean setInt(GeneratedAdapterTest.Model instance, String fieldName, int value) {
+        switch (fieldName) {
+        case "count":
+            instance.count = value;
+            return true;
+        default:
+            return false;
+        }
+    }
+}
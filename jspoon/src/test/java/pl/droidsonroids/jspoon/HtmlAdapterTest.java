@@ -4,6 +4,8 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import pl.droidsonroids.jspoon.annotation.Selector;
@@ -23,6 +25,15 @@ public class HtmlAdapterTest {
         @Selector(value = "#lastName") String lastName;
     }
 
+    private static class Row {
+
+        @Selector(value = "td", index = 0) String name;
+        @Selector(value = "td", index = 1) int count;
+        @Selector(value = "td", index = 2, defValue = "none") String missing;
+        @Selector(value = "td") List<String> cells;
+        @Selector(value = "td", attr = "class") String firstClass;
+    }
+
     private Jspoon jspoon;
 
     @Before
@@ -42,4 +53,16 @@ public class HtmlAdapterTest {
             assertEquals("Doe", profile.lastName);
         }
     }
+
+    @Test
+    public void testFieldsSharingCssQuery() {
+        HtmlAdapter<Row> adapter = jspoon.adapter(Row.class);
+
+        Row row = adapter.fromHtml("<table><tr><td class='name'>Apples</td><td>4</td></tr></table>");
+        assertEquals("Apples", row.name);
+        assertEquals(4, row.count);
+        assertEquals("none", row.missing);
+        assertEquals(Arrays.asList("Apples", "4"), row.cells);
+        assertEquals("name", row.firstClass);
+    }
 }
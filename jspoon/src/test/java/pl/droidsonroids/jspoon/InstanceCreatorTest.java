@@ -0,0 +1,59 @@
+package pl.droidsonroids.jspoon;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import pl.droidsonroids.jspoon.annotation.Selector;
+import pl.droidsonroids.jspoon.exception.ConstructorNotFoundException;
+
+public class InstanceCreatorTest {
+
+    private static class Page {
+        @Selector("li") List<Item> items;
+    }
+
+    private static class Item {
+        private final String prefix;
+        @Selector("span") String name;
+
+        private Item(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    @Test
+    public void registeredCreatorUsed() {
+        final int[] created = {0};
+        Jspoon jspoon = Jspoon.builder()
+                .registerInstanceCreator(Item.class, new InstanceCreator<Item>() {
+                    @Override
+                    public Item newInstance() {
+                        created[0]++;
+                        return new Item("item");
+                    }
+                })
+                .build();
+
+        Page page = jspoon.adapter(Page.class).fromHtml("<ul><li><span>a</span></li><li><span>b</span></li></ul>");
+
+        assertEquals(2, created[0]);
+        assertEquals("item", page.items.get(0).prefix);
+        assertEquals("b", page.items.get(1).name);
+    }
+
+    @Test
+    public void providedInstanceWithoutDefaultConstructor() {
+        Item item = new Item("provided");
+        assertSame(item, Jspoon.create().adapter(Item.class).fromHtml("<span>a</span>", item));
+        assertEquals("a", item.name);
+    }
+
+    @Test(expected = ConstructorNotFoundException.class)
+    public void missingDefaultConstructor() {
+        Jspoon.create().adapter(Item.class).fromHtml("<span>a</span>");
+    }
+}
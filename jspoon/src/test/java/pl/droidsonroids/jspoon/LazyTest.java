@@ -0,0 +1,77 @@
+package pl.droidsonroids.jspoon;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jsoup.nodes.Element;
+import org.junit.Before;
+import org.junit.Test;
+
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class LazyTest {
+    private final static String HTML_CONTENT = "<div>"
+            + "<h1>Title</h1>"
+            + "<span id='count'>3</span>"
+            + "<ul><li><b>first</b></li><li><b>second</b></li></ul>"
+            + "</div>";
+    private static int conversions;
+    private Jspoon jspoon;
+
+    @Before
+    public void setUp() {
+        jspoon = Jspoon.create();
+        conversions = 0;
+    }
+
+    @Selector("li")
+    private static class Item {
+        @Selector("b") String name;
+    }
+
+    private static class CountingConverter implements ElementConverter<Integer> {
+        @Override
+        public Integer convert(@NotNull Element node, @NotNull Selector selector) {
+            conversions++;
+            return Integer.valueOf(node.text());
+        }
+    }
+
+    private static class Page {
+        @Selector("h1") Lazy<String> title;
+        @Selector("#count") Lazy<Integer> count;
+        @Selector(value = "#count", converter = CountingConverter.class) Lazy<Integer> convertedCount;
+        @Selector("li b") Lazy<List<String>> names;
+        @Selector("li") Lazy<List<Item>> items;
+        Lazy<Item> firstItem;
+        @Selector("p") Lazy<String> missing;
+    }
+
+    @Test
+    public void lazyFields() {
+        Page page = jspoon.adapter(Page.class).fromHtml(HTML_CONTENT);
+        assertEquals("Title", page.title.get());
+        assertEquals(Integer.valueOf(3), page.count.get());
+        assertEquals(Arrays.asList("first", "second"), page.names.get());
+        assertEquals(2, page.items.get().size());
+        assertEquals("second", page.items.get().get(1).name);
+        assertEquals("first", page.firstItem.get().name);
+        assertNull(page.missing.get());
+    }
+
+    @Test
+    public void lazyFieldConvertedOnFirstAccess() {
+        Page page = jspoon.adapter(Page.class).fromHtml(HTML_CONTENT);
+        assertEquals(0, conversions);
+
+        Integer count = page.convertedCount.get();
+        assertEquals(Integer.valueOf(3), count);
+        assertSame(count, page.convertedCount.get());
+        assertEquals(1, conversions);
+    }
+}
@@ -0,0 +1,129 @@
+package pl.droidsonroids.jspoon;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jsoup.nodes.Element;
+import org.junit.Test;
+
+import pl.droidsonroids.jspoon.annotation.Format;
+import pl.droidsonroids.jspoon.annotation.Selector;
+import pl.droidsonroids.jspoon.annotation.SkipOn;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class MetadataTest {
+    private final static String HTML_CONTENT = "<div>"
+            + "<h1>Title</h1>"
+            + "<span class='date'>2018-01-02</span>"
+            + "<span class='count'>many</span>"
+            + "<ul><li><b>first</b></li><li><b>second</b></li></ul>"
+            + "<p>1</p><p>2</p>"
+            + "</div>";
+
+    private static class UpperCaseConverter implements ElementConverter<String> {
+        @Override
+        public String convert(@NotNull Element node, @NotNull Selector selector) {
+            return node.text().toUpperCase() + selector.index();
+        }
+    }
+
+    @Selector("li")
+    private static class Item {
+        @Selector("b") String name;
+    }
+
+    private static class Base<T> {
+        @Selector("li") List<T> items;
+    }
+
+    private static class Page extends Base<Item> {
+        @Selector(value = "h1", converter = UpperCaseConverter.class) String title;
+        @Format("yyyy-MM-dd") @Selector("span.date") Date date;
+        @SkipOn(NumberFormatException.class) @Selector("span.count") Integer count;
+        @Selector("p") int[] numbers;
+        @Selector(value = "li", index = 1) Lazy<Item> second;
+    }
+
+    private static final String MODEL_VERSION = "1.0";
+
+    @Test
+    public void metadataOfOtherModelVersionIgnored() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Jspoon.create().writeMetadata(out, MODEL_VERSION, Page.class);
+
+        Jspoon jspoon = Jspoon.builder().metadata(new ByteArrayInputStream(out.toByteArray()), "1.1").build();
+        assertNull(jspoon.metadata(Page.class));
+        assertEquals("TITLE0", jspoon.adapter(Page.class).fromHtml(HTML_CONTENT).title);
+    }
+
+    @Test
+    public void restoredAnnotationsEqualParsedOnes() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Jspoon.create().writeMetadata(out, MODEL_VERSION, Page.class);
+        Jspoon jspoon = Jspoon.builder().metadata(new ByteArrayInputStream(out.toByteArray()), MODEL_VERSION).build();
+
+        for (AdapterMetadata.FieldEntry entry : jspoon.metadata(Page.class)) {
+            Selector parsed = entry.field.unwrap().getAnnotation(Selector.class);
+            assertEquals(parsed, entry.selector);
+            assertEquals(entry.selector, parsed);
+            assertEquals(parsed.hashCode(), entry.selector.hashCode());
+        }
+        Field date = Page.class.getDeclaredField("date");
+        Format restoredFormat = null;
+        for (AdapterMetadata.FieldEntry entry : jspoon.metadata(Page.class)) {
+            if (entry.field.unwrap().equals(date)) {
+                restoredFormat = entry.field.getAnnotation(Format.class);
+            }
+        }
+        assertEquals(date.getAnnotation(Format.class), restoredFormat);
+        assertEquals(date.getAnnotation(Format.class).hashCode(), restoredFormat.hashCode());
+        assertNotEquals(date.getAnnotation(Selector.class), restoredFormat);
+    }
+
+    @Test
+    public void adaptersCreatedFromMetadata() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Jspoon.create().writeMetadata(out, MODEL_VERSION, Page.class);
+
+        Jspoon jspoon = Jspoon.builder().metadata(new ByteArrayInputStream(out.toByteArray()), MODEL_VERSION).build();
+        assertNotNull(jspoon.metadata(Page.class));
+        assertNotNull(jspoon.metadata(Item.class));
+
+        Page page = jspoon.adapter(Page.class).fromHtml(HTML_CONTENT);
+        assertEquals("TITLE0", page.title);
+        assertNotNull(page.date);
+        assertNull(page.count);
+        assertArrayEquals(new int[] { 1, 2 }, page.numbers);
+        assertEquals(2, page.items.size());
+        assertEquals("first", page.items.get(0).name);
+        assertEquals("second", page.second.get().name);
+    }
+
+    @Test
+    public void metadataWrittenFromMetadata() throws IOException {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        Jspoon.create().writeMetadata(first, MODEL_VERSION, Page.class);
+        Jspoon jspoon = Jspoon.builder().metadata(new ByteArrayInputStream(first.toByteArray()), MODEL_VERSION).build();
+
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        jspoon.writeMetadata(second, MODEL_VERSION, Page.class);
+        assertEquals(first.size(), second.size());
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidMetadata() throws IOException {
+        byte[] bytes = Arrays.copyOf("<html>".getBytes("UTF-8"), 16);
+        Jspoon.builder().metadata(new ByteArrayInputStream(bytes), MODEL_VERSION);
+    }
+}
@@ -0,0 +1,43 @@
+package pl.droidsonroids.jspoon;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import org.junit.Test;
+
+public class NumberParserTest {
+
+    private static final Locale POLISH = Locale.forLanguageTag("pl");
+
+    @Test
+    public void plainNumbers() throws Exception {
+        assertParsedAsNumberFormat(Locale.US, "0", "-0", "42", "-42", "3.14", "-0.001", "1,234,567.5");
+        assertParsedAsNumberFormat(POLISH, "3,14", "-12,5", "0,000001");
+    }
+
+    @Test
+    public void negativeZero() {
+        double parsed = new NumberParser(Locale.US).parseDouble("-0");
+        assertEquals(Double.doubleToLongBits(-0.0d), Double.doubleToLongBits(parsed));
+    }
+
+    @Test
+    public void unsupportedInputFallsBack() {
+        NumberParser parser = new NumberParser(Locale.US);
+        for (String value : new String[]{null, "", "-", "+1", "1.", ".5", "1,", "1,.5", "1.2.3", "1E5",
+                "12 PLN", "$12", "1234567890123456", "0.00000000000000000000001", "\u0661"}) {
+            assertTrue(value, Double.isNaN(parser.parseDouble(value)));
+        }
+    }
+
+    private static void assertParsedAsNumberFormat(Locale locale, String... values) throws Exception {
+        NumberParser parser = new NumberParser(locale);
+        for (String value : values) {
+            double expected = NumberFormat.getInstance(locale).parse(value).doubleValue();
+            assertEquals(value, expected, parser.parseDouble(value), 0.0d);
+        }
+    }
+}
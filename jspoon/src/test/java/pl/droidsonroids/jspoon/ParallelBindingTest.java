@@ -0,0 +1,88 @@
+package pl.droidsonroids.jspoon;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelBindingTest {
+    private static final int ROWS = 1000;
+    private ForkJoinPool forkJoinPool;
+    private Jspoon jspoon;
+
+    @Before
+    public void setUp() {
+        forkJoinPool = new ForkJoinPool(4);
+        jspoon = Jspoon.builder().parallelCollectionBinding(forkJoinPool, 10).build();
+    }
+
+    @After
+    public void tearDown() {
+        forkJoinPool.shutdown();
+    }
+
+    private static class Row {
+        @Selector("td.id") int id;
+        @Selector("td.name") String name;
+    }
+
+    private static class Table {
+        @Selector("tr:has(td)") List<Row> rows;
+        @Selector("td.name") String[] names;
+        @Selector("td.id") List<Integer> ids;
+        @Selector("th") List<String> headers;
+    }
+
+    private static String tableHtml() {
+        StringBuilder html = new StringBuilder("<table><tr><th>id</th><th>name</th></tr>");
+        for (int i = 0; i < ROWS; i++) {
+            html.append("<tr><td class='id'>").append(i).append("</td><td class='name'>row")
+                    .append(i).append("</td></tr>");
+        }
+        return html.append("</table>").toString();
+    }
+
+    @Test
+    public void parallelBindingKeepsDocumentOrder() {
+        Table table = jspoon.adapter(Table.class).fromHtml(tableHtml());
+        assertEquals(ROWS, table.rows.size());
+        assertEquals(ROWS, table.names.length);
+        assertEquals(ROWS, table.ids.size());
+        assertEquals(2, table.headers.size());
+        for (int i = 0; i < ROWS; i++) {
+            Row row = table.rows.get(i);
+            assertEquals(i, row.id);
+            assertEquals("row" + i, row.name);
+            assertEquals("row" + i, table.names[i]);
+            assertEquals(Integer.valueOf(i), table.ids.get(i));
+        }
+    }
+
+    @Test
+    public void boundObjectsReportedFromAllThreads() {
+        final AtomicInteger boundObjects = new AtomicInteger();
+        Jspoon countingJspoon = Jspoon.builder()
+                .parallelCollectionBinding(forkJoinPool, 10)
+                .bindingListener(new BindingListener() {
+                    @Override
+                    public void objectBound(@NotNull Class<?> type) {
+                        boundObjects.incrementAndGet();
+                    }
+                })
+                .build();
+        countingJspoon.adapter(Table.class).fromHtml(tableHtml());
+
+        assertEquals(ROWS + 1, boundObjects.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void thresholdValidated() {
+        Jspoon.builder().parallelCollectionBinding(forkJoinPool, 1);
+    }
+}
@@ -4,7 +4,11 @@ import org.junit.Before;
 import org.junit.Test;
 import pl.droidsonroids.jspoon.annotation.Selector;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class RegexTest {
     private final static String HTML_CONTENT = "<div>"
@@ -22,6 +26,10 @@ public class RegexTest {
         @Selector(value = "div", regex = "([a-z]+),") String number;
     }
 
+    private static class RegexListModel {
+        @Selector(value = "li", regex = "#(\\d+)") List<String> numbers;
+    }
+
     private static class RegexModelDefault {
         @Selector(value = "div", regex = "(\\d+)", defValue = "1") int number;
     }
@@ -41,4 +49,19 @@ public class RegexTest {
         RegexModelDefault regexModelDefault = htmlAdapter.fromHtml(HTML_CONTENT);
         assertEquals(regexModelDefault.number, 1);
     }
+
+    @Test
+    public void regexListTest() {
+        HtmlAdapter<RegexListModel> htmlAdapter = jspoon.adapter(RegexListModel.class);
+        RegexListModel regexListModel = htmlAdapter.fromHtml("<ul><li>#1</li><li>#22</li><li>#333</li></ul>");
+        assertEquals(Arrays.asList("1", "22", "333"), regexListModel.numbers);
+    }
+
+    @Test
+    public void regexPatternCompiledOnce() throws Exception {
+        FieldType field = new FieldType(RegexModel.class, RegexModel.class.getDeclaredField("number"));
+        SelectorSpec spec = new SelectorSpec(field.getAnnotation(Selector.class), field);
+        assertSame(spec.getRegexPattern(), spec.regexMatcher("a,").pattern());
+        assertSame(spec.regexMatcher("a,"), spec.regexMatcher("b,"));
+    }
 }
@@ -0,0 +1,101 @@
+package pl.droidsonroids.jspoon;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Collector;
+import org.jsoup.select.Elements;
+import org.junit.Test;
+
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+public class SelectorSpecTest {
+    private final static String HTML_CONTENT = "<div class='a' id='1'>"
+            + "<div class='b'><div class='a' id='2'><div class='a' id='3'></div></div></div>"
+            + "<div class='a' id='4'><span class='a' id='5'></span></div>"
+            + "<div class='a' id='6'></div>"
+            + "</div>";
+
+    private static class Model {
+        @Selector(".a") String first;
+        @Selector(value = ".a", index = 3) String fourth;
+        @Selector("div") Element div;
+    }
+
+    private static SelectorSpec spec(String fieldName) throws NoSuchFieldException {
+        FieldType field = new FieldType(Model.class, Model.class.getDeclaredField(fieldName));
+        return new SelectorSpec(field.getAnnotation(Selector.class), field);
+    }
+
+    private static Element root() {
+        return Jsoup.parse(HTML_CONTENT).body().child(0);
+    }
+
+    @Test
+    public void matchingRootSelectedFirst() throws Exception {
+        Element root = root();
+        Elements selected = spec("first").select(root, 1);
+        assertEquals(1, selected.size());
+        assertSame(root, selected.first());
+    }
+
+    @Test
+    public void selectionStopsAtLimitInNestedTree() throws Exception {
+        Elements selected = spec("first").select(root(), 3);
+        assertEquals("[1, 2, 3]", ids(selected));
+    }
+
+    @Test
+    public void indexAfterNestedMatches() throws Exception {
+        SelectorSpec spec = spec("fourth");
+        Elements selected = spec.select(root(), spec.getIndex() + 1);
+        assertEquals("[1, 2, 3, 4]", ids(selected));
+        assertEquals("4", selected.get(spec.getIndex()).id());
+    }
+
+    @Test
+    public void limitAboveMatchesSelectsAll() throws Exception {
+        Element root = root();
+        assertEquals(ids(Collector.collect(spec("first").getEvaluator(), root)),
+                ids(spec("first").select(root, 100)));
+    }
+
+    @Test
+    public void sameAsCollectorOnRandomTrees() throws Exception {
+        Random random = new Random(42);
+        SelectorSpec spec = spec("div");
+        for (int tree = 0; tree < 50; tree++) {
+            Element root = Jsoup.parse("").body().appendElement("div");
+            grow(root, random, 4);
+            Elements all = Collector.collect(spec.getEvaluator(), root);
+            for (int limit = 1; limit <= all.size() + 1; limit++) {
+                Elements selected = spec.select(root, limit);
+                assertEquals(all.subList(0, Math.min(limit, all.size())), selected);
+            }
+        }
+    }
+
+    private static void grow(Element parent, Random random, int depth) {
+        if (depth == 0) {
+            return;
+        }
+        for (int i = random.nextInt(4); i > 0; i--) {
+            grow(parent.appendElement(random.nextBoolean() ? "div" : "span"), random, depth - 1);
+        }
+    }
+
+    private static String ids(Elements elements) {
+        StringBuilder ids = new StringBuilder("[");
+        for (Element element : elements) {
+            if (ids.length() > 1) {
+                ids.append(", ");
+            }
+            ids.append(element.id());
+        }
+        return ids.append("]").toString();
+    }
+}
@@ -0,0 +1,133 @@
+package pl.droidsonroids.jspoon;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.Before;
+import org.junit.Test;
+
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class SharedDocumentTest {
+    private final static String HTML_CONTENT = "<div>"
+            + "<h1>Title</h1>"
+            + "<ul><li><a href='/first'>First</a></li><li><a href='/second'>Second</a></li></ul>"
+            + "</div>";
+
+    private Jspoon jspoon;
+
+    private static class Header {
+        @Selector("h1") String title;
+    }
+
+    private static class Links {
+        @Selector(value = "li > a", attr = "href") List<String> hrefs;
+    }
+
+    private static class Link {
+        @Selector("a") String name;
+    }
+
+    private static final CountDownLatch bindingStarted = new CountDownLatch(1);
+    private static final CountDownLatch bindingReleased = new CountDownLatch(1);
+
+    private static class BlockingConverter implements ElementConverter<String> {
+        @Override
+        public String convert(@NotNull Element node, @NotNull Selector selector) {
+            bindingStarted.countDown();
+            try {
+                bindingReleased.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return node.text();
+        }
+    }
+
+    private static class SlowHeader {
+        @Selector(value = "h1", converter = BlockingConverter.class) String title;
+    }
+
+    @Before
+    public void setUp() {
+        jspoon = Jspoon.create();
+    }
+
+    @Test
+    public void fromElement() {
+        Document document = Jsoup.parse(HTML_CONTENT);
+        assertEquals("Title", jspoon.adapter(Header.class).fromElement(document).title);
+        assertEquals(2, jspoon.adapter(Links.class).fromElement(document).hrefs.size());
+        assertEquals("Second", jspoon.adapter(Link.class).fromElement(document.select("li").get(1)).name);
+    }
+
+    @Test
+    public void fromElementPopulatesInstance() {
+        Header header = new Header();
+        Header populated = jspoon.adapter(Header.class).fromElement(Jsoup.parse(HTML_CONTENT), header);
+        assertSame(header, populated);
+        assertEquals("Title", header.title);
+    }
+
+    @Test
+    public void sharedDocumentBindsEachClassOnce() {
+        SharedDocument document = jspoon.parseDocument(HTML_CONTENT);
+        Header header = document.get(Header.class);
+        assertEquals("Title", header.title);
+        assertEquals("/second", document.get(Links.class).hrefs.get(1));
+        assertSame(header, document.get(Header.class));
+    }
+
+    @Test(timeout = 10000)
+    public void sharedDocumentBindsOutsideOfLock() throws Exception {
+        final SharedDocument document = jspoon.parseDocument(HTML_CONTENT);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<SlowHeader> slowHeader = executor.submit(new Callable<SlowHeader>() {
+                @Override
+                public SlowHeader call() {
+                    return document.get(SlowHeader.class);
+                }
+            });
+            bindingStarted.await();
+            Future<SlowHeader> waitingHeader = executor.submit(new Callable<SlowHeader>() {
+                @Override
+                public SlowHeader call() {
+                    return document.get(SlowHeader.class);
+                }
+            });
+
+            // Another class is bound while the first one is still being bound
+            assertEquals("Title", document.get(Header.class).title);
+            assertFalse(slowHeader.isDone());
+
+            bindingReleased.countDown();
+            assertEquals("Title", slowHeader.get(5, TimeUnit.SECONDS).title);
+            assertSame(slowHeader.get(), waitingHeader.get(5, TimeUnit.SECONDS));
+        } finally {
+            bindingReleased.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void sharedDocumentFromElement() {
+        Document parsed = Jsoup.parse(HTML_CONTENT, "https://example.com/");
+        SharedDocument document = jspoon.document(parsed);
+        assertSame(parsed, document.getRoot());
+        assertEquals("/first", document.get(Links.class).hrefs.get(0));
+    }
+}
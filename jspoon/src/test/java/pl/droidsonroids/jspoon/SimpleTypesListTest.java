@@ -7,7 +7,9 @@ import org.junit.Before;
 import org.junit.Test;
 import pl.droidsonroids.jspoon.annotation.Selector;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class SimpleTypesListTest {
     private final static String HTML_CONTENT = "<div>"
@@ -57,6 +59,24 @@ public class SimpleTypesListTest {
         assertEquals(intModel.integerArrayList, new ArrayList<>(Arrays.asList(-200, 4, 32000)));
     }
 
+    private static class PrimitiveArrayModel {
+        @Selector(".int") int[] intArray;
+        @Selector(".int") long[] longArray;
+        @Selector(".int") double[] doubleArray;
+        @Selector(".boolean") boolean[] booleanArray;
+        @Selector(".missing") int[] missingArray;
+    }
+
+    @Test
+    public void primitiveArrays() {
+        PrimitiveArrayModel model = createObjectFromHtml(PrimitiveArrayModel.class);
+        assertArrayEquals(new int[]{-200, 4, 32000}, model.intArray);
+        assertArrayEquals(new long[]{-200, 4, 32000}, model.longArray);
+        assertArrayEquals(new double[]{-200, 4, 32000}, model.doubleArray, 0);
+        assertArrayEquals(new boolean[]{true, false, false}, model.booleanArray);
+        assertNull(model.missingArray);
+    }
+
     @Test
     public void stringLists() {
         StringModel stringModel = createObjectFromHtml(StringModel.class);
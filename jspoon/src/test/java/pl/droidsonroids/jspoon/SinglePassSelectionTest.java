@@ -0,0 +1,67 @@
+package pl.droidsonroids.jspoon;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import pl.droidsonroids.jspoon.annotation.Selector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class SinglePassSelectionTest {
+    private final static String HTML_CONTENT = "<div id='root'>"
+            + "<h1>Title</h1>"
+            + "<ul>"
+            + "<li class='item'><b>1</b><span>first</span></li>"
+            + "<li class='item'><b>2</b><span>second</span></li>"
+            + "<li class='item'><b>3</b><span>third</span></li>"
+            + "</ul>"
+            + "<p>Footer</p>"
+            + "</div>";
+    private Jspoon jspoon;
+
+    @Before
+    public void setUp() {
+        jspoon = Jspoon.builder().singlePassSelection(true).build();
+    }
+
+    private static class Item {
+        @Selector("b") int number;
+        @Selector("span") String name;
+        @Selector(".item") String self;
+    }
+
+    private static class Page {
+        @Selector("h1") String title;
+        @Selector("p") String footer;
+        @Selector(value = "li span", index = 1) String secondName;
+        @Selector(value = "li span", index = 5, defValue = "none") String missingName;
+        @Selector("li.item") List<Item> items;
+        @Selector("li b") int[] numbers;
+        @Selector("div") String outer;
+    }
+
+    @Test
+    public void singlePassSelection() {
+        Page page = jspoon.adapter(Page.class).fromHtml(HTML_CONTENT);
+        assertEquals("Title", page.title);
+        assertEquals("Footer", page.footer);
+        assertEquals("second", page.secondName);
+        assertEquals("none", page.missingName);
+        assertEquals(3, page.items.size());
+        assertEquals(2, page.items.get(1).number);
+        assertEquals("second", page.items.get(1).name);
+        assertEquals("2second", page.items.get(1).self);
+        assertEquals(Arrays.asList(1, 2, 3), Arrays.asList(page.numbers[0], page.numbers[1], page.numbers[2]));
+        assertEquals("Title 1first 2second 3third Footer", page.outer);
+    }
+
+    @Test
+    public void singlePassSelectionMissingElements() {
+        Item item = jspoon.adapter(Item.class).fromHtml("<b>7</b><i><b>8</b></i>");
+        assertEquals(7, item.number);
+        assertNull(item.name);
+        assertNull(item.self);
+    }
+}
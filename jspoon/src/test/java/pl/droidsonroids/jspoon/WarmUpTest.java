@@ -0,0 +1,57 @@
+package pl.droidsonroids.jspoon;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+
+import pl.droidsonroids.jspoon.annotation.Format;
+import pl.droidsonroids.jspoon.annotation.Selector;
+import pl.droidsonroids.jspoon.exception.EmptySelectorException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class WarmUpTest {
+    private final static String HTML_CONTENT = "<div>"
+            + "<span class='date'>2018-01-02</span>"
+            + "<span class='price'>12.50</span>"
+            + "<ul><li>1.5</li><li>2.5</li></ul>"
+            + "</div>";
+
+    private static class Offer {
+        @Format("yyyy-MM-dd") @Selector("span.date") Date date;
+        @Selector("span.price") BigDecimal price;
+        @Selector("li") List<Double> rates;
+        @Selector("div") Details details;
+    }
+
+    private static class Details {
+        @Selector("span.price") float price;
+    }
+
+    private static class NotAnnotated {
+        String text;
+    }
+
+    @Test
+    public void preloadAndWarmUp() {
+        Jspoon jspoon = Jspoon.builder().preload(Offer.class).build();
+        assertTrue(jspoon.adapterCache.containsKey(Offer.class));
+        assertTrue(jspoon.adapterCache.containsKey(Details.class));
+        jspoon.warmUp(Offer.class, HTML_CONTENT, 10);
+
+        Offer offer = jspoon.adapter(Offer.class).fromHtml(HTML_CONTENT);
+        assertNotNull(offer.date);
+        assertEquals(new BigDecimal("12.50"), offer.price);
+        assertEquals(2, offer.rates.size());
+        assertEquals(12.5f, offer.details.price, 0);
+    }
+
+    @Test(expected = EmptySelectorException.class)
+    public void preloadReportsInvalidModel() {
+        Jspoon.builder().preload(NotAnnotated.class).build();
+    }
+}
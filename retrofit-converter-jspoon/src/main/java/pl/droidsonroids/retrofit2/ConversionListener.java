@@ -0,0 +1,18 @@
+package pl.droidsonroids.retrofit2;
+
+/**
+ * Receives measurements of every response body converted by {@link JspoonConverterFactory}, to
+ * tell whether slow conversions are caused by the server, by parsing or by binding models. Called
+ * in the converting thread, possibly concurrently, so implementations have to be thread safe.
+ *
+ * @see JspoonConverterFactory#withConversionListener(ConversionListener)
+ */
+public interface ConversionListener {
+
+    /**
+     * Called after a response body has been converted successfully.
+     *
+     * @param metrics measurements of the conversion
+     */
+    void converted(ConversionMetrics metrics);
+}
@@ -0,0 +1,91 @@
+package pl.droidsonroids.retrofit2;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measurements of a single response body conversion, see {@link ConversionListener}. Times are in
+ * nanoseconds.
+ */
+public final class ConversionMetrics {
+
+    private final Class<?> type;
+    private final long byteCount;
+    private final long readNanos;
+    private final long decodeNanos;
+    private final long parseNanos;
+    private final long bindNanos;
+
+    ConversionMetrics(Class<?> type, long byteCount, long readNanos, long decodeNanos, long parseNanos,
+            long bindNanos) {
+        this.type = type;
+        this.byteCount = byteCount;
+        this.readNanos = readNanos;
+        this.decodeNanos = decodeNanos;
+        this.parseNanos = parseNanos;
+        this.bindNanos = bindNanos;
+    }
+
+    /**
+     * @return type the body has been converted to
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return number of bytes of the body
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * @return time of reading the whole body from the network
+     */
+    public long getReadNanos() {
+        return readNanos;
+    }
+
+    /**
+     * @return time of decoding the body to characters, 0 if the response has no charset in its
+     * {@code Content-Type}, then the charset is detected and the body decoded while parsing
+     */
+    public long getDecodeNanos() {
+        return decodeNanos;
+    }
+
+    /**
+     * @return time of building the DOM of the document
+     */
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    /**
+     * @return time of binding the document to the model
+     */
+    public long getBindNanos() {
+        return bindNanos;
+    }
+
+    /**
+     * @return sum of all the times
+     */
+    public long getTotalNanos() {
+        return readNanos + decodeNanos + parseNanos + bindNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionMetrics{type=" + type.getName()
+                + ", bytes=" + byteCount
+                + ", readMs=" + millis(readNanos)
+                + ", decodeMs=" + millis(decodeNanos)
+                + ", parseMs=" + millis(parseNanos)
+                + ", bindMs=" + millis(bindNanos) + "}";
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
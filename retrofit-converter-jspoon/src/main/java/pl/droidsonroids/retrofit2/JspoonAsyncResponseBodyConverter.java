@@ -0,0 +1,60 @@
+package pl.droidsonroids.retrofit2;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+
+/**
+ * Hands the response body over to an executor and returns immediately, so the thread delivering
+ * the response is not held while the body is downloaded and parsed. The body is closed when the
+ * returned {@link Future} is cancelled, also before the conversion has started.
+ */
+class JspoonAsyncResponseBodyConverter<T> implements Converter<ResponseBody, Future<T>> {
+
+    private final JspoonResponseBodyConverter<T> converter;
+    private final Executor executor;
+
+    JspoonAsyncResponseBodyConverter(JspoonResponseBodyConverter<T> converter, Executor executor) {
+        this.converter = converter;
+        this.executor = executor;
+    }
+
+    @Override
+    public Future<T> convert(final ResponseBody responseBody) throws IOException {
+        FutureTask<T> task = new ConversionTask<>(new Callable<T>() {
+            @Override
+            public T call() throws IOException {
+                return converter.convert(responseBody);
+            }
+        }, responseBody);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            responseBody.close();
+            throw e;
+        }
+        return task;
+    }
+
+    private static final class ConversionTask<T> extends FutureTask<T> {
+        private final ResponseBody responseBody;
+
+        ConversionTask(Callable<T> callable, ResponseBody responseBody) {
+            super(callable);
+            this.responseBody = responseBody;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                responseBody.close();
+            }
+        }
+    }
+}
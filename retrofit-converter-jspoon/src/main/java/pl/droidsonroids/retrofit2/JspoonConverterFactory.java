@@ -1,7 +1,11 @@
 package pl.droidsonroids.retrofit2;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import okhttp3.HttpUrl;
 import okhttp3.ResponseBody;
 import pl.droidsonroids.jspoon.Jspoon;
 import pl.droidsonroids.jspoon.exception.EmptySelectorException;
@@ -10,27 +14,76 @@ import retrofit2.Retrofit;
 
 public final class JspoonConverterFactory extends Converter.Factory {
     private Jspoon jspoon;
+    private Executor executor;
+    private ConversionListener conversionListener;
 
     public static JspoonConverterFactory create() {
-        return new JspoonConverterFactory(Jspoon.create());
+        return new JspoonConverterFactory(Jspoon.create(), null, null);
     }
 
     public static JspoonConverterFactory create(Jspoon jspoon) {
-        return new JspoonConverterFactory(jspoon);
+        return new JspoonConverterFactory(jspoon, null, null);
     }
 
-    private JspoonConverterFactory(Jspoon jspoon) {
+    /**
+     * Creates a factory which additionally converts bodies of calls declared as
+     * {@code Call<Future<T>>} on the given {@code Executor}. Such conversion returns right away, the
+     * body is read and parsed on the executor, which can be bounded to limit how many pages are
+     * parsed at once.
+     *
+     * @param jspoon Jspoon instance used for conversion
+     * @param executor Executor reading and parsing bodies of {@code Future} results
+     * @return new factory
+     */
+    public static JspoonConverterFactory create(Jspoon jspoon, Executor executor) {
+        return new JspoonConverterFactory(jspoon, executor, null);
+    }
+
+    private JspoonConverterFactory(Jspoon jspoon, Executor executor, ConversionListener conversionListener) {
         this.jspoon = jspoon;
+        this.executor = executor;
+        this.conversionListener = conversionListener;
+    }
+
+    /**
+     * Creates a factory like this one, whose converters report the number of bytes of every body
+     * and the times of reading, decoding, parsing and binding it to {@code conversionListener}. To
+     * measure the steps separately, bodies are read as a whole before being parsed, instead of
+     * being parsed while they are read. Bound objects are reported to the
+     * {@link pl.droidsonroids.jspoon.BindingListener} of the {@code Jspoon} instance.
+     *
+     * @param conversionListener listener to report conversions to
+     * @return new factory
+     */
+    public JspoonConverterFactory withConversionListener(ConversionListener conversionListener) {
+        return new JspoonConverterFactory(jspoon, executor, conversionListener);
     }
 
     @Override
     public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+        if (executor != null && type instanceof ParameterizedType && getRawType(type) == Future.class) {
+            JspoonResponseBodyConverter<?> converter =
+                    createConverter(getParameterUpperBound(0, (ParameterizedType) type), retrofit);
+            if (converter == null) {
+                return null;
+            }
+            return new JspoonAsyncResponseBodyConverter<>(converter, executor);
+        }
+        return createConverter(type, retrofit);
+    }
 
+    private JspoonResponseBodyConverter<?> createConverter(Type type, Retrofit retrofit) {
+        if (!(type instanceof Class)) {
+            return null;
+        }
         try {
-            return new JspoonResponseBodyConverter<>(retrofit.baseUrl(),
-            jspoon.adapter((Class<?>) type));
+            return createConverter((Class<?>) type, retrofit.baseUrl());
         } catch (EmptySelectorException ex) {
             return null; // Let retrofit choose another converter
         }
     }
+
+    private <T> JspoonResponseBodyConverter<T> createConverter(Class<T> type, HttpUrl baseUrl) {
+        return new JspoonResponseBodyConverter<>(baseUrl, type, jspoon.adapter(type), conversionListener);
+    }
 }
@@ -1,23 +1,36 @@
 package pl.droidsonroids.retrofit2;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.nio.charset.Charset;
 
+import org.jsoup.Jsoup;
+import org.jsoup.UncheckedIOException;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.ResponseBody;
+import okio.BufferedSource;
 import pl.droidsonroids.jspoon.HtmlAdapter;
 import retrofit2.Converter;
 
 class JspoonResponseBodyConverter<T> implements Converter<ResponseBody, T> {
 
     private final HttpUrl httpUrl;
+    private final Class<T> type;
     private final HtmlAdapter<T> htmlAdapter;
+    private final ConversionListener conversionListener;
 
-    JspoonResponseBodyConverter(HttpUrl httpUrl, HtmlAdapter<T> htmlAdapter) {
+    JspoonResponseBodyConverter(HttpUrl httpUrl, Class<T> type, HtmlAdapter<T> htmlAdapter,
+            ConversionListener conversionListener) {
         this.httpUrl = httpUrl;
+        this.type = type;
         this.htmlAdapter = htmlAdapter;
+        this.conversionListener = conversionListener;
     }
 
     @Override
@@ -27,6 +40,24 @@ class JspoonResponseBodyConverter<T> implements Converter<ResponseBody, T> {
         if (mediaType != null)
             charset = mediaType.charset();
 
+        if (conversionListener != null) {
+            try {
+                return convertMeasured(responseBody, charset);
+            } finally {
+                responseBody.close();
+            }
+        }
+
+        if (charset != null) {
+            // Decode straight from the body source, skipping jsoup's charset detection buffer.
+            Reader reader = responseBody.charStream();
+            try {
+                return htmlAdapter.fromElement(parse(reader, charset));
+            } finally {
+                reader.close();
+            }
+        }
+
         InputStream is = responseBody.byteStream();
         try {
             return htmlAdapter.fromInputStream(is, charset, httpUrl.url());
@@ -34,4 +65,55 @@ class JspoonResponseBodyConverter<T> implements Converter<ResponseBody, T> {
             is.close();
         }
     }
+
+    /**
+     * Parses HTML decoded with {@code charset}, which the document is set to be serialized with,
+     * like {@link Jsoup#parse(InputStream, String, String)} does, so that characters it cannot
+     * encode are escaped in {@code html} and {@code outerHtml} values.
+     */
+    private Document parse(Reader reader, Charset charset) throws IOException {
+        // jsoup marks and resets the reader while buffering its input
+        Reader markableReader = reader.markSupported() ? reader : new BufferedReader(reader);
+        Document document;
+        try {
+            document = Parser.htmlParser().parseInput(markableReader, httpUrl.toString());
+        } catch (UncheckedIOException e) {
+            throw e.ioException();
+        }
+        document.outputSettings().charset(charset);
+        return document;
+    }
+
+    /**
+     * Reads, decodes, parses and binds the body one after another, instead of feeding the parser
+     * while reading, so that each step can be measured.
+     */
+    private T convertMeasured(ResponseBody responseBody, Charset charset) throws IOException {
+        long start = System.nanoTime();
+        BufferedSource source = responseBody.source();
+        source.request(Long.MAX_VALUE);
+        long byteCount = source.buffer().size();
+        long read = System.nanoTime();
+
+        Document document;
+        long decoded;
+        if (charset != null) {
+            // The body may hand out a new source on every call, keep reading the buffered one
+            String html = ResponseBody.create(responseBody.contentType(), byteCount, source).string();
+            decoded = System.nanoTime();
+            document = Jsoup.parse(html, httpUrl.toString());
+            document.outputSettings().charset(charset);
+        } else {
+            decoded = read;
+            document = Jsoup.parse(source.inputStream(), null, httpUrl.toString());
+        }
+        long parsed = System.nanoTime();
+
+        T value = htmlAdapter.fromElement(document);
+        long bound = System.nanoTime();
+
+        conversionListener.converted(new ConversionMetrics(type, byteCount, read - start, decoded - read,
+                parsed - decoded, bound - parsed));
+        return value;
+    }
 }
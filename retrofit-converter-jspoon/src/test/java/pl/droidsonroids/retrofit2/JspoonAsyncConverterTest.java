@@ -0,0 +1,108 @@
+package pl.droidsonroids.retrofit2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import pl.droidsonroids.jspoon.Jspoon;
+import pl.droidsonroids.jspoon.annotation.Selector;
+import retrofit2.Call;
+import retrofit2.Retrofit.Builder;
+import retrofit2.http.GET;
+
+public class JspoonAsyncConverterTest {
+
+    private MockWebServer server;
+    private ExecutorService executor;
+
+    private interface PageService {
+
+        @GET("/page")
+        Call<Future<Page>> getPage();
+
+        @GET("/page")
+        Call<Page> getPageSynchronously();
+    }
+
+    private static class Page {
+
+        @Selector("h1")
+        private String title;
+    }
+
+    @Before
+    public void setUp() {
+        server = new MockWebServer();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    public void testFutureConvertedOnExecutor() throws Exception {
+        server.enqueue(new MockResponse().setBody("<h1>Async</h1>"));
+        server.enqueue(new MockResponse().setBody("<h1>Sync</h1>"));
+
+        PageService service = new Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(JspoonConverterFactory.create(Jspoon.create(), executor))
+            .build()
+            .create(PageService.class);
+        Future<Page> page = service.getPage().execute().body();
+        assertEquals("Async", page.get().title);
+        assertEquals("Sync", service.getPageSynchronously().execute().body().title);
+    }
+
+    @Test
+    public void testBodyClosedWhenCancelledBeforeExecution() throws Exception {
+        final List<Runnable> queued = new ArrayList<>();
+        Executor queueingExecutor = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                queued.add(command);
+            }
+        };
+        final boolean[] closed = new boolean[1];
+        ForwardingSource source = new ForwardingSource(new Buffer().writeUtf8("<h1>Cancelled</h1>")) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        ResponseBody responseBody = ResponseBody.create(MediaType.parse("text/html"), -1, Okio.buffer(source));
+        JspoonResponseBodyConverter<Page> converter = new JspoonResponseBodyConverter<>(
+                HttpUrl.parse("http://localhost/"), Page.class, Jspoon.create().adapter(Page.class), null);
+
+        Future<Page> page = new JspoonAsyncResponseBodyConverter<>(converter, queueingExecutor).convert(responseBody);
+        assertFalse(closed[0]);
+        assertTrue(page.cancel(false));
+        assertTrue(closed[0]);
+        queued.get(0).run();
+        assertTrue(page.isCancelled());
+    }
+}
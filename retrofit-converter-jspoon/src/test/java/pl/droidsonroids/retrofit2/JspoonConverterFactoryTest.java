@@ -1,6 +1,7 @@
 package pl.droidsonroids.retrofit2;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -9,12 +10,17 @@ import static org.mockito.Mockito.when;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Test;
 
 import okhttp3.ResponseBody;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import pl.droidsonroids.jspoon.annotation.Selector;
 import retrofit2.Call;
 import retrofit2.Converter;
 import retrofit2.Converter.Factory;
@@ -69,4 +75,142 @@ public class JspoonConverterFactoryTest {
 
         verify(mockConverter, atLeastOnce()).convert(any(ResponseBody.class));
     }
+
+    private interface PageService {
+
+        @GET("/page")
+        Call<Page> getPage();
+    }
+
+    private static class Page {
+
+        @Selector("h1")
+        private String title;
+    }
+
+    @Test
+    public void testCharsetFromContentType() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/html; charset=ISO-8859-2")
+            .setBody(new Buffer().writeString("<h1>Za\u017c\u00f3\u0142\u0107</h1>", Charset.forName("ISO-8859-2"))));
+        server.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/html; charset=utf-8")
+            .setBody(new Buffer().write(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}).writeUtf8("<h1>BOM</h1>")));
+
+        PageService service = new Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(JspoonConverterFactory.create())
+            .build()
+            .create(PageService.class);
+        assertEquals("Za\u017c\u00f3\u0142\u0107", service.getPage().execute().body().title);
+        assertEquals("BOM", service.getPage().execute().body().title);
+        server.shutdown();
+    }
+
+    private interface SnippetService {
+
+        @GET("/snippet")
+        Call<Snippet> getSnippet();
+    }
+
+    private static class Snippet {
+
+        @Selector(value = "p", attr = "outerHtml")
+        private String html;
+    }
+
+    @Test
+    public void testOuterHtmlEscapedForContentTypeCharset() throws Exception {
+        MockWebServer server = new MockWebServer();
+        String html = "<p>a &mdash; \u00e9</p>";
+        for (int i = 0; i < 2; i++) {
+            server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "text/html; charset=ISO-8859-1")
+                .setBody(new Buffer().writeString(html, Charset.forName("ISO-8859-1"))));
+        }
+        SnippetService service = new Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(JspoonConverterFactory.create())
+            .build()
+            .create(SnippetService.class);
+        SnippetService measuredService = new Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(JspoonConverterFactory.create().withConversionListener(new ConversionListener() {
+                @Override
+                public void converted(ConversionMetrics metrics) {
+                }
+            }))
+            .build()
+            .create(SnippetService.class);
+
+        assertEquals("<p>a &#x2014; \u00e9</p>", service.getSnippet().execute().body().html);
+        assertEquals("<p>a &#x2014; \u00e9</p>", measuredService.getSnippet().execute().body().html);
+        server.shutdown();
+    }
+
+    private interface ListingService {
+
+        @GET("/listing")
+        Call<Listing> getListing();
+    }
+
+    private static class Listing {
+
+        @Selector("h1")
+        private String title;
+
+        @Selector("li")
+        private List<Entry> entries;
+    }
+
+    private static class Entry {
+
+        @Selector("a")
+        private Page link;
+    }
+
+    @Test
+    public void testConversionListener() throws Exception {
+        MockWebServer server = new MockWebServer();
+        String html = "<h1>Listing</h1><ul><li><a><h1>First</h1></a></li><li><a><h1>Second</h1></a></li></ul>";
+        server.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/html; charset=utf-8")
+            .setBody(html));
+        server.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/html")
+            .setBody(html));
+        server.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/html; charset=utf-8")
+            .setBody(new Buffer().write(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}).writeUtf8(html)));
+
+        final List<ConversionMetrics> conversions = new ArrayList<>();
+        ListingService service = new Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(JspoonConverterFactory.create().withConversionListener(new ConversionListener() {
+                @Override
+                public void converted(ConversionMetrics metrics) {
+                    conversions.add(metrics);
+                }
+            }))
+            .build()
+            .create(ListingService.class);
+        Listing listing = service.getListing().execute().body();
+        assertEquals("Listing", listing.title);
+        assertEquals("Second", listing.entries.get(1).link.title);
+        assertEquals("Listing", service.getListing().execute().body().title);
+        assertEquals("Listing", service.getListing().execute().body().title);
+        server.shutdown();
+
+        assertEquals(3, conversions.size());
+        for (ConversionMetrics metrics : conversions) {
+            assertEquals(Listing.class, metrics.getType());
+            assertTrue(metrics.getParseNanos() > 0);
+            assertTrue(metrics.getBindNanos() > 0);
+        }
+        assertEquals(html.length(), conversions.get(0).getByteCount());
+        assertEquals(html.length() + 3, conversions.get(2).getByteCount());
+        assertTrue(conversions.get(0).getDecodeNanos() > 0);
+        assertEquals(0, conversions.get(1).getDecodeNanos());
+    }
 }